@@ -0,0 +1,107 @@
+package org.sportradar;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.sportradar.ScoreBoard.Match;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The throughput of score updates with the audit trail turned off and written to a local file by {@link FileAuditSink}.
+ * <p>
+ * Run with several writers to see the contention: {@code ./gradlew jmh -PjmhIncludes=AuditSinkBenchmark -PjmhThreads=4}.
+ * The records dropped by the sink are reported as the {@code droppedRecords} secondary result of every iteration.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AuditSinkBenchmark {
+
+    @Param({"off", "file"})
+    public String audit;
+
+    @Param({"48"})
+    public int teams;
+
+    private Path auditFile;
+    private FileAuditSink auditSink;
+    private BoardFixture board;
+    // the dropped records already reported by the writers
+    private final AtomicLong reportedDropped = new AtomicLong();
+
+    @Setup
+    public void setUp() throws IOException {
+        ScoreBoard.Builder builder = ScoreBoard.builder();
+        if (audit.equals("file")) {
+            auditFile = Files.createTempFile("score-board-audit", ".bin");
+            auditSink = FileAuditSink.open(auditFile);
+            builder.auditSink(auditSink);
+        }
+        board = new BoardFixture(teams, builder);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        board.scoreBoard.close();
+        if (auditFile != null) {
+            Files.delete(auditFile);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Writer {
+
+        private int next;
+        private int goals;
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class DroppedRecords {
+
+        public long droppedRecords;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            droppedRecords = 0;
+        }
+
+        // every writer reports its share of the records dropped since the last report, so the sum is not duplicated
+        @TearDown(Level.Iteration)
+        public void count(AuditSinkBenchmark benchmark) {
+            if (benchmark.auditSink != null) {
+                long dropped = benchmark.auditSink.getDropped();
+                droppedRecords = Math.max(0, dropped - benchmark.reportedDropped.getAndAccumulate(dropped, Math::max));
+            }
+        }
+    }
+
+    @Benchmark
+    public Match updateMatchScore(Writer writer, DroppedRecords dropped) {
+        int i = writer.next;
+        if (++writer.next == board.matches()) {
+            writer.next = 0;
+            writer.goals++;
+        }
+        return board.scoreBoard.updateMatchScore(board.homeTeams[i], writer.goals, board.awayTeams[i], 0);
+    }
+}
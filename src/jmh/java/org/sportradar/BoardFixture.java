@@ -0,0 +1,37 @@
+package org.sportradar;
+
+import java.util.Random;
+
+/**
+ * A {@link ScoreBoard} populated with the given number of teams playing each other in pairs,
+ * e.g. 48 teams of World Cup 2026 play 24 matches at the same time.
+ */
+final class BoardFixture {
+
+    final ScoreBoard scoreBoard;
+    final String[] homeTeams;
+    final String[] awayTeams;
+
+    BoardFixture(int teams) {
+        this(teams, ScoreBoard.builder());
+    }
+
+    BoardFixture(int teams, ScoreBoard.Builder builder) {
+        this.scoreBoard = builder.build();
+        int matches = teams / 2;
+        this.homeTeams = new String[matches];
+        this.awayTeams = new String[matches];
+
+        Random random = new Random(teams);
+        for (int i = 0; i < matches; i++) {
+            homeTeams[i] = "home-" + i;
+            awayTeams[i] = "away-" + i;
+            scoreBoard.startNewMatch(homeTeams[i], awayTeams[i]);
+            scoreBoard.updateMatchScore(homeTeams[i], random.nextInt(4), awayTeams[i], random.nextInt(4));
+        }
+    }
+
+    int matches() {
+        return homeTeams.length;
+    }
+}
@@ -0,0 +1,79 @@
+package org.sportradar;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.ThreadParams;
+import org.sportradar.ScoreBoard.Match;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The cost of every single {@link ScoreBoard} operation on a small (World Cup: 48 teams) and a large board.
+ * <p>
+ * The number of threads is set for the whole run: {@code ./gradlew jmh -PjmhThreads=64}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ScoreBoardOperationsBenchmark {
+
+    @Param({"48", "4096"})
+    public int teams;
+
+    private BoardFixture board;
+
+    @Setup
+    public void setUp() {
+        board = new BoardFixture(teams);
+    }
+
+    @State(Scope.Thread)
+    public static class Writer {
+
+        private String threadPrefix;
+        private int next;
+        private int goals;
+        private long startedMatches;
+
+        @Setup
+        public void setUp(ThreadParams threadParams) {
+            threadPrefix = "thread-" + threadParams.getThreadIndex() + "-";
+        }
+    }
+
+    @Benchmark
+    public List<Match> getSummary() {
+        return board.scoreBoard.getSummary();
+    }
+
+    @Benchmark
+    public Match updateMatchScore(Writer writer) {
+        int i = writer.next;
+        if (++writer.next == board.matches()) {
+            writer.next = 0;
+            writer.goals++;
+        }
+        return board.scoreBoard.updateMatchScore(board.homeTeams[i], writer.goals, board.awayTeams[i], 0);
+    }
+
+    // startNewMatch & finishMatch are measured as a pair to keep the number of live matches stable
+    @Benchmark
+    public Match startNewMatchAndFinishMatch(Writer writer) {
+        String homeTeam = writer.threadPrefix + writer.startedMatches++;
+        board.scoreBoard.startNewMatch(homeTeam, "visitor");
+        return board.scoreBoard.finishMatch(homeTeam, "visitor");
+    }
+}
@@ -0,0 +1,73 @@
+package org.sportradar;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.ThreadParams;
+import org.sportradar.ScoreBoard.Match;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The realistic load of a {@link ScoreBoard}: every thread mostly reads the Summary
+ * and scores a goal once per {@code readsPerWrite} reads.
+ * <p>
+ * The number of threads is set for the whole run, e.g. the scale from 1 to 64 threads:
+ * <pre>
+ * ./gradlew jmh -PjmhIncludes=ScoreBoardReadWriteMixBenchmark -PjmhThreads=1
+ * ./gradlew jmh -PjmhIncludes=ScoreBoardReadWriteMixBenchmark -PjmhThreads=64
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ScoreBoardReadWriteMixBenchmark {
+
+    @Param({"48", "4096"})
+    public int teams;
+
+    @Param({"100", "10000"})
+    public int readsPerWrite;
+
+    private BoardFixture board;
+
+    @Setup
+    public void setUp() {
+        board = new BoardFixture(teams);
+    }
+
+    @State(Scope.Thread)
+    public static class Client {
+
+        private long operations;
+        private int next;
+        private int goals;
+
+        @Setup
+        public void setUp(ThreadParams threadParams) {
+            // spread the writes of the threads over different matches
+            next = threadParams.getThreadIndex();
+        }
+    }
+
+    @Benchmark
+    public List<Match> readWriteMix(Client client) {
+        if (++client.operations % readsPerWrite == 0) {
+            int i = client.next++ % board.matches();
+            board.scoreBoard.updateMatchScore(board.homeTeams[i], ++client.goals, board.awayTeams[i], 0);
+        }
+        return board.scoreBoard.getSummary();
+    }
+}
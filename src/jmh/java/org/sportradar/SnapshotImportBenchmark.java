@@ -0,0 +1,71 @@
+package org.sportradar;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.sportradar.BoardStateCodec.BoardState;
+import org.sportradar.BoardStateCodec.MatchState;
+import org.sportradar.ScoreBoard.Match;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The time to bring up a new node: the import of the snapshot of a board with the given number of matches
+ * into an empty {@link ScoreBoard}, see {@link ScoreBoard#importSnapshot(java.nio.channels.ReadableByteChannel)}.
+ * <p>
+ * Runs in a 1 GB heap: a board of 1M imported matches holds ~650 MB after GC (the views of the teams are built
+ * only when they are read), most of the time of the import is the GC of these live objects.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx1g")
+public class SnapshotImportBenchmark {
+
+    @Param({"10000", "1000000"})
+    public int matches;
+
+    private byte[] snapshot;
+    private ScoreBoard scoreBoard;
+
+    @Setup
+    public void setUp() {
+        Instant kickOff = Instant.now();
+        List<MatchState> state = new ArrayList<>(matches);
+        for (int i = 0; i < matches; i++) {
+            state.add(new MatchState(new Match("home-" + i, i % 5, "away-" + i, i % 3, true, kickOff), null));
+        }
+        ByteBuffer encoded = BoardStateCodec.encode(new BoardState(1, state));
+        snapshot = new byte[encoded.remaining()];
+        encoded.get(snapshot);
+    }
+
+    @Setup(Level.Iteration)
+    public void newNode() {
+        scoreBoard = new ScoreBoard();
+    }
+
+    @Benchmark
+    public ScoreBoard importSnapshot() throws IOException {
+        scoreBoard.importSnapshot(Channels.newChannel(new ByteArrayInputStream(snapshot)));
+        return scoreBoard;
+    }
+}
@@ -0,0 +1,85 @@
+package org.sportradar;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.sportradar.ScoreBoard.Match;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the cost of a goal (score update) depending on the number of live matches:
+ * the maintained {@link SummaryIndex} of the {@link ScoreBoard} vs the full re-sort of all the matches
+ * on every change (the former implementation of the Summary calculation).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SummaryUpdateBenchmark {
+
+    @Param({"50", "500", "5000", "50000"})
+    public int liveMatches;
+
+    private String[] homeTeams;
+    private String[] awayTeams;
+    private ScoreBoard scoreBoard;
+    private List<Match> matches;
+    private int next;
+    private int goals;
+
+    @Setup
+    public void setUp() {
+        Instant kickOff = Instant.parse("2026-06-11T18:00:00.00Z");
+        scoreBoard = new ScoreBoard(() -> kickOff);
+        homeTeams = new String[liveMatches];
+        awayTeams = new String[liveMatches];
+        matches = new ArrayList<>(liveMatches);
+        for (int i = 0; i < liveMatches; i++) {
+            homeTeams[i] = "home-" + i;
+            awayTeams[i] = "away-" + i;
+            matches.add(scoreBoard.startNewMatch(homeTeams[i], awayTeams[i]));
+        }
+    }
+
+    @Benchmark
+    public Match updateMatchScore() {
+        int i = nextMatch();
+        return scoreBoard.updateMatchScore(homeTeams[i], goals, awayTeams[i], 0);
+    }
+
+    @Benchmark
+    public List<Match> fullResort() {
+        int i = nextMatch();
+        matches.set(i, matches.get(i).updateScore(goals, 0));
+        return matches.stream()
+            .filter(Match::isActive)
+            .sorted(Comparator.<Match>comparingInt(match -> match.homeTeamScore() + match.awayTeamScore()).reversed()
+                .thenComparing(Comparator.comparing(Match::startedAt).reversed()))
+            .toList();
+    }
+
+    // walks over all the matches, so every match scores in turn and moves up through the summary
+    private int nextMatch() {
+        int i = next;
+        if (++next == liveMatches) {
+            next = 0;
+            goals++;
+        }
+        return i;
+    }
+}
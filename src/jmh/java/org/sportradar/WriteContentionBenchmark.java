@@ -0,0 +1,94 @@
+package org.sportradar;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.ThreadParams;
+import org.sportradar.ScoreBoard.Match;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The throughput and the tail latency of score updates of many concurrent feed adapters (writers)
+ * with the different write paths of a {@link ScoreBoard}:
+ * <ul>
+ *     <li>{@code lock} - the writers take the (barging) write lock, the default;</li>
+ *     <li>{@code fair-lock} - the writers take the write lock in the order of arrival, see
+ *     {@link ScoreBoard.Builder#fairWriteLock()};</li>
+ *     <li>{@code writer} - the writers submit the updates to {@link ScoreBoardWriter} and wait for the result.</li>
+ * </ul>
+ * Every thread scores the goals of its own Match. The number of writers is set for the whole run, e.g.:
+ * <pre>
+ * ./gradlew jmh -PjmhIncludes=WriteContentionBenchmark -PjmhThreads=1
+ * ./gradlew jmh -PjmhIncludes=WriteContentionBenchmark -PjmhThreads=32
+ * </pre>
+ * The sample mode reports the percentiles of the latency (p0.99, p0.999).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WriteContentionBenchmark {
+
+    @Param({"lock", "fair-lock", "writer"})
+    public String engine;
+
+    @Param({"64"})
+    public int teams;
+
+    private BoardFixture board;
+    private ScoreBoardWriter writer;
+
+    @Setup
+    public void setUp() {
+        ScoreBoard.Builder builder = ScoreBoard.builder();
+        if (engine.equals("fair-lock")) {
+            builder.fairWriteLock();
+        }
+        board = new BoardFixture(teams, builder);
+        if (engine.equals("writer")) {
+            writer = new ScoreBoardWriter(board.scoreBoard);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (writer != null) {
+            writer.close();
+        }
+        board.scoreBoard.close();
+    }
+
+    @State(Scope.Thread)
+    public static class FeedAdapter {
+
+        private int match;
+        private int goals;
+
+        @Setup
+        public void setUp(ThreadParams threadParams, WriteContentionBenchmark benchmark) {
+            match = threadParams.getThreadIndex() % benchmark.board.matches();
+        }
+    }
+
+    @Benchmark
+    public Match updateMatchScore(FeedAdapter adapter) {
+        int i = adapter.match;
+        int goals = ++adapter.goals;
+        if (writer != null) {
+            return writer.updateMatchScore(board.homeTeams[i], goals, board.awayTeams[i], 0).join();
+        }
+        return board.scoreBoard.updateMatchScore(board.homeTeams[i], goals, board.awayTeams[i], 0);
+    }
+}
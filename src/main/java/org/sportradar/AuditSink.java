@@ -0,0 +1,24 @@
+package org.sportradar;
+
+/**
+ * The audit trail of the changes of the {@link ScoreBoard}, see {@link ScoreBoard.Builder#auditSink(AuditSink)}.
+ * <p>
+ * Every applied change is handed to the sink by the writer under the write lock, in the order of changes:
+ * implementations must never block, e.g. queue the records and write them in batches asynchronously
+ * like {@link FileAuditSink}.
+ */
+public interface AuditSink extends AutoCloseable {
+
+    /**
+     * @param version the version of the Summary with the change
+     * @param event   the applied change
+     */
+    void audit(long version, MatchEvent event);
+
+    /**
+     * Flushes the queued records and releases the resources. Called by {@link ScoreBoard#close()}.
+     */
+    @Override
+    default void close() {
+    }
+}
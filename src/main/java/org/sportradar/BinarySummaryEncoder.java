@@ -0,0 +1,63 @@
+package org.sportradar;
+
+import org.sportradar.ScoreBoard.Match;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Encodes the Summary to the compact binary format (big-endian):
+ * <pre>
+ * byte   format version (1)
+ * long   Summary version
+ * int    number of matches, then per match in the Summary order:
+ *   ushort length of homeTeam, UTF-8 bytes of homeTeam
+ *   ushort length of awayTeam, UTF-8 bytes of awayTeam
+ *   int    homeTeamScore
+ *   int    awayTeamScore
+ *   long   startedAt: seconds of epoch
+ *   int    startedAt: nanos of the second
+ * </pre>
+ */
+final class BinarySummaryEncoder implements SummaryEncoder {
+
+    static final byte FORMAT_VERSION = 1;
+
+    @Override
+    public String mediaType() {
+        return "application/octet-stream";
+    }
+
+    @Override
+    public byte[] encode(long version, List<Match> summary) {
+        int size = summary.size();
+        byte[][] homeTeams = new byte[size][];
+        byte[][] awayTeams = new byte[size][];
+        int length = 1 + 8 + 4;
+        for (int i = 0; i < size; i++) {
+            Match match = summary.get(i);
+            homeTeams[i] = match.homeTeam().getBytes(StandardCharsets.UTF_8);
+            awayTeams[i] = match.awayTeam().getBytes(StandardCharsets.UTF_8);
+            length += 2 + homeTeams[i].length + 2 + awayTeams[i].length + 4 + 4 + 8 + 4;
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        buffer.put(FORMAT_VERSION).putLong(version).putInt(size);
+        for (int i = 0; i < size; i++) {
+            Match match = summary.get(i);
+            buffer.putShort(unsignedShort(homeTeams[i].length)).put(homeTeams[i]);
+            buffer.putShort(unsignedShort(awayTeams[i].length)).put(awayTeams[i]);
+            buffer.putInt(match.homeTeamScore()).putInt(match.awayTeamScore());
+            buffer.putLong(match.startedAt().getEpochSecond()).putInt(match.startedAt().getNano());
+        }
+        return buffer.array();
+    }
+
+    // the team names are validated on start, see ScoreBoard#validateTeams
+    private static short unsignedShort(int length) {
+        if (length > 0xFFFF)
+            throw new IllegalArgumentException("Team name is longer than 65535 UTF-8 bytes");
+        return (short) length;
+    }
+}
@@ -0,0 +1,207 @@
+package org.sportradar;
+
+import org.sportradar.ScoreBoard.Match;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Binary format of the whole state of the {@link ScoreBoard} (big-endian):
+ * <pre>
+ * int    magic 'SBST'
+ * byte   format version (1)
+ * long   version of the Summary
+ * int    number of matches, then per match in the order of start:
+ *   ushort length of homeTeam, UTF-8 bytes of homeTeam
+ *   ushort length of awayTeam, UTF-8 bytes of awayTeam
+ *   int    homeTeamScore
+ *   int    awayTeamScore
+ *   byte   status: 0 finished, 1 active, 2 removed
+ *   long   startedAt: seconds of epoch
+ *   int    startedAt: nanos of the second
+ *   only if finished:
+ *   long   finishedAt: seconds of epoch
+ *   int    finishedAt: nanos of the second
+ * </pre>
+ * Finished matches are kept in the state as well as they are kept in the board.
+ * A removed Match (dropped by the reset of the board without a finish) is only a change: in the journal
+ * and in the replicated changes, never in the whole state.
+ * <p>
+ * The decoded input is untrusted (files, network): every malformed value is rejected with {@link IOException}.
+ */
+final class BoardStateCodec {
+
+    static final int MAGIC = 0x53425354;
+    static final byte FORMAT_VERSION = 1;
+
+    private static final byte FINISHED = 0;
+    private static final byte ACTIVE = 1;
+    private static final byte REMOVED = 2;
+
+    // the shortest encoded match: the names of a single byte, active
+    private static final int MIN_MATCH_LENGTH = 2 + 1 + 2 + 1 + 4 + 4 + 1 + 8 + 4;
+
+    /**
+     * The state of the board: Summary version and all the Matches in the order of start.
+     */
+    record BoardState(long version, List<MatchState> matches) {
+    }
+
+    /**
+     * The Match with its metadata.
+     *
+     * @param finishedAt the time of finish, null for the active or removed Match
+     * @param removed    true if the Match is removed from the board, its last state is kept for the listeners
+     */
+    record MatchState(Match match, Instant finishedAt, boolean removed) {
+
+        MatchState(Match match, Instant finishedAt) {
+            this(match, finishedAt, false);
+        }
+    }
+
+    private BoardStateCodec() {
+    }
+
+    static ByteBuffer encode(BoardState state) {
+        int length = 4 + 1 + 8 + 4;
+        for (MatchState match : state.matches()) {
+            length += encodedLength(match.match(), match.removed());
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        buffer.putInt(MAGIC).put(FORMAT_VERSION).putLong(state.version()).putInt(state.matches().size());
+        for (MatchState match : state.matches()) {
+            putMatch(buffer, match.match(), match.finishedAt(), match.removed());
+        }
+        return buffer.flip();
+    }
+
+    /**
+     * Decodes the whole state of the board: every Match at most once, no removed ones.
+     */
+    static BoardState decode(ByteBuffer buffer) throws IOException {
+        return decode(buffer, true);
+    }
+
+    /**
+     * Decodes the changes of a single Summary version: a Match may change several times, or be removed.
+     */
+    static BoardState decodeChanges(ByteBuffer buffer) throws IOException {
+        return decode(buffer, false);
+    }
+
+    private static BoardState decode(ByteBuffer buffer, boolean whole) throws IOException {
+        try {
+            if (buffer.getInt() != MAGIC)
+                throw new IOException("Not a ScoreBoard state");
+            byte formatVersion = buffer.get();
+            if (formatVersion != FORMAT_VERSION)
+                throw new IOException("Unsupported format version of ScoreBoard state: " + formatVersion);
+
+            long version = buffer.getLong();
+            int size = buffer.getInt();
+            // checked before the allocation: a corrupted size must not allocate gigabytes
+            if (size < 0 || size > buffer.remaining() / MIN_MATCH_LENGTH)
+                throw new IOException("Malformed number of matches of ScoreBoard state: " + size);
+            List<MatchState> matches = new ArrayList<>(size);
+            Set<MatchKey> keys = whole ? new HashSet<>((int) (size / 0.75f) + 1) : null;
+            for (int i = 0; i < size; i++) {
+                MatchState match = getMatch(buffer);
+                if (whole && match.removed())
+                    throw new IOException("Removed match in the whole ScoreBoard state: " + MatchKey.of(match.match()));
+                if (whole && !keys.add(MatchKey.of(match.match())))
+                    throw new IOException("Duplicate match in ScoreBoard state: " + MatchKey.of(match.match()));
+                matches.add(match);
+            }
+            return new BoardState(version, matches);
+        } catch (BufferUnderflowException e) {
+            throw new IOException("ScoreBoard state is truncated", e);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("ScoreBoard state is malformed", e);
+        }
+    }
+
+    static int encodedLength(Match match, boolean removed) {
+        return stringLength(match.homeTeam()) + stringLength(match.awayTeam()) + 4 + 4 + 1 + 8 + 4
+                + (match.isActive() || removed ? 0 : 8 + 4);
+    }
+
+    static void putMatch(ByteBuffer buffer, Match match, Instant finishedAt, boolean removed) {
+        putString(buffer, match.homeTeam());
+        putString(buffer, match.awayTeam());
+        buffer.putInt(match.homeTeamScore()).putInt(match.awayTeamScore());
+        buffer.put(removed ? REMOVED : match.isActive() ? ACTIVE : FINISHED);
+        putInstant(buffer, match.startedAt());
+        if (!match.isActive() && !removed) {
+            putInstant(buffer, finishedAt);
+        }
+    }
+
+    /**
+     * @throws IOException              if the Match is not valid: as if it has been validated on start and update
+     * @throws IllegalArgumentException if a time is malformed
+     */
+    static MatchState getMatch(ByteBuffer buffer) throws IOException {
+        String homeTeam = getString(buffer);
+        String awayTeam = getString(buffer);
+        if (homeTeam.isBlank() || awayTeam.isBlank() || homeTeam.equals(awayTeam))
+            throw new IOException("Malformed teams of the match: [%s] & [%s]".formatted(homeTeam, awayTeam));
+        int homeTeamScore = buffer.getInt();
+        int awayTeamScore = buffer.getInt();
+        if (homeTeamScore < 0 || awayTeamScore < 0)
+            throw new IOException("Negative score of the match: %d - %d".formatted(homeTeamScore, awayTeamScore));
+        byte status = buffer.get();
+        if (status != FINISHED && status != ACTIVE && status != REMOVED)
+            throw new IOException("Unknown status of the match: " + status);
+        Instant startedAt = getInstant(buffer);
+        Instant finishedAt = status == FINISHED ? getInstant(buffer) : null;
+        Match match = new Match(homeTeam, homeTeamScore, awayTeam, awayTeamScore, status == ACTIVE, startedAt);
+        return new MatchState(match, finishedAt, status == REMOVED);
+    }
+
+    static int stringLength(String value) {
+        return 2 + value.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    static void putString(ByteBuffer buffer, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        // the team names are validated on start, see ScoreBoard#validateTeams
+        if (bytes.length > 0xFFFF)
+            throw new IllegalArgumentException("Team name is longer than 65535 UTF-8 bytes");
+        buffer.putShort((short) bytes.length).put(bytes);
+    }
+
+    static String getString(ByteBuffer buffer) {
+        byte[] bytes = new byte[Short.toUnsignedInt(buffer.getShort())];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    static void putInstant(ByteBuffer buffer, Instant instant) {
+        buffer.putLong(instant.getEpochSecond()).putInt(instant.getNano());
+    }
+
+    /**
+     * @throws IllegalArgumentException if the nanos of the second or the seconds are out of the range of {@link Instant}
+     */
+    static Instant getInstant(ByteBuffer buffer) {
+        long seconds = buffer.getLong();
+        int nanos = buffer.getInt();
+        if (nanos < 0 || nanos > 999_999_999)
+            throw new IllegalArgumentException("Nanos of the second out of range: " + nanos);
+        try {
+            return Instant.ofEpochSecond(seconds, nanos);
+        } catch (DateTimeException e) {
+            throw new IllegalArgumentException("Seconds of epoch out of range: " + seconds, e);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package org.sportradar;
+
+import java.util.List;
+
+/**
+ * Internal synchronous listener of the changes committed to the {@link ScoreBoard}.
+ * <p>
+ * Called by the writer under the write lock right after the new Summary has been published,
+ * so it must be fast and must not block. Changes are never reported for the rolled back commands.
+ */
+@FunctionalInterface
+interface ChangeListener {
+
+    void onCommit(List<MatchChange> changes);
+}
@@ -0,0 +1,250 @@
+package org.sportradar;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.sportradar.ScoreBoard.Match;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static org.sportradar.BoardStateCodec.getInstant;
+import static org.sportradar.BoardStateCodec.getString;
+import static org.sportradar.BoardStateCodec.putInstant;
+import static org.sportradar.BoardStateCodec.putString;
+import static org.sportradar.BoardStateCodec.stringLength;
+
+/**
+ * {@link AuditSink} appending compact binary records to a local file.
+ * <p>
+ * The writer of the board only puts a record to a bounded queue, a background thread drains the queue
+ * in batches and writes every batch with a single write. A record which doesn't fit into the full queue
+ * is dropped and counted ({@link #getDropped()}): the audit never stalls the writers.
+ * <p>
+ * Every record is (big-endian):
+ * <pre>
+ * int length | long version | byte kind (0 started, 1 score updated, 2 finished)
+ *            | homeTeam | awayTeam | int homeTeamScore | int awayTeamScore | startedAt
+ *            | [int previous homeTeamScore | int previous awayTeamScore]  (score updated only)
+ * </pre>
+ * Strings are {@code ushort length | UTF-8 bytes}, instants are {@code long epochSecond | int nano}.
+ * The records are not fsync-ed one by one: the file is forced on {@link #close()} only.
+ */
+public class FileAuditSink implements AuditSink {
+
+    private static final Logger log = LoggerFactory.getLogger(FileAuditSink.class);
+
+    private static final int DEFAULT_CAPACITY = 65_536;
+    private static final int MAX_BATCH = 4096;
+
+    private static final byte STARTED = 0;
+    private static final byte SCORE_UPDATED = 1;
+    private static final byte FINISHED = 2;
+
+    /**
+     * The record of the audit trail.
+     *
+     * @param version the version of the Summary with the change
+     * @param event   the change
+     */
+    public record AuditRecord(long version, MatchEvent event) {
+    }
+
+    private final FileChannel channel;
+    private final BlockingQueue<AuditRecord> queue;
+    private final LongAdder dropped = new LongAdder();
+    private final Thread flusher;
+    private volatile boolean closed;
+
+    private ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+
+    private FileAuditSink(FileChannel channel, int capacity) {
+        this.channel = channel;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.flusher = new Thread(this::run, "score-board-audit");
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+    }
+
+    /**
+     * Opens the sink appending to the given file, the file is created if it doesn't exist.
+     */
+    public static FileAuditSink open(Path file) throws IOException {
+        return open(file, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param capacity the maximum number of the records waiting to be written
+     */
+    public static FileAuditSink open(Path file, int capacity) throws IOException {
+        if (capacity <= 0)
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        return new FileAuditSink(FileChannel.open(file, CREATE, WRITE, APPEND), capacity);
+    }
+
+    /**
+     * Reads all the records of the audit file, a torn record at the end of the file (e.g. after a crash) is skipped.
+     */
+    public static List<AuditRecord> read(Path file) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+        List<AuditRecord> records = new ArrayList<>();
+        while (buffer.remaining() >= Integer.BYTES) {
+            int length = buffer.getInt();
+            if (length > buffer.remaining()) {
+                break;
+            }
+            try {
+                records.add(decode(buffer.slice(buffer.position(), length)));
+            } catch (BufferUnderflowException | IllegalArgumentException e) {
+                throw new IOException("Audit record is corrupted at " + (buffer.position() - Integer.BYTES), e);
+            }
+            buffer.position(buffer.position() + length);
+        }
+        return records;
+    }
+
+    @Override
+    public void audit(long version, MatchEvent event) {
+        if (closed || !queue.offer(new AuditRecord(version, event))) {
+            dropped.increment();
+        }
+    }
+
+    /**
+     * @return the number of the records dropped because of the full queue
+     */
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    /**
+     * Writes all the queued records, forces them to the storage and closes the file.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        boolean interrupted = false;
+        while (flusher.isAlive()) {
+            try {
+                flusher.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        try {
+            channel.force(false);
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to close the audit file", e);
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void run() {
+        List<AuditRecord> batch = new ArrayList<>(MAX_BATCH);
+        while (!closed || !queue.isEmpty()) {
+            try {
+                AuditRecord first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, MAX_BATCH - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                // only close() stops the flusher
+            } catch (IOException e) {
+                dropped.add(batch.size());
+                log.warn("Failed to write [{}] audit records", batch.size(), e);
+            }
+            batch.clear();
+        }
+    }
+
+    private void write(List<AuditRecord> batch) throws IOException {
+        buffer.clear();
+        for (AuditRecord record : batch) {
+            int length = encodedLength(record.event);
+            if (buffer.remaining() < Integer.BYTES + length) {
+                flush();
+                if (buffer.capacity() < Integer.BYTES + length) {
+                    buffer = ByteBuffer.allocate(Integer.BYTES + length);
+                }
+            }
+            buffer.putInt(length);
+            encode(buffer, record);
+        }
+        flush();
+    }
+
+    private void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private static int encodedLength(MatchEvent event) {
+        Match match = event.match();
+        return Long.BYTES + 1 + stringLength(match.homeTeam()) + stringLength(match.awayTeam()) + 4 + 4 + 8 + 4
+                + (event instanceof MatchEvent.ScoreUpdated ? 4 + 4 : 0);
+    }
+
+    private static void encode(ByteBuffer buffer, AuditRecord record) {
+        MatchEvent event = record.event;
+        Match match = event.match();
+        buffer.putLong(record.version);
+        buffer.put(event instanceof MatchEvent.MatchStarted ? STARTED
+                : event instanceof MatchEvent.ScoreUpdated ? SCORE_UPDATED : FINISHED);
+        putString(buffer, match.homeTeam());
+        putString(buffer, match.awayTeam());
+        buffer.putInt(match.homeTeamScore()).putInt(match.awayTeamScore());
+        putInstant(buffer, match.startedAt());
+        if (event instanceof MatchEvent.ScoreUpdated updated) {
+            buffer.putInt(updated.previous().homeTeamScore()).putInt(updated.previous().awayTeamScore());
+        }
+    }
+
+    private static AuditRecord decode(ByteBuffer buffer) {
+        long version = buffer.getLong();
+        byte kind = buffer.get();
+        String homeTeam = getString(buffer);
+        String awayTeam = getString(buffer);
+        int homeTeamScore = buffer.getInt();
+        int awayTeamScore = buffer.getInt();
+        Instant startedAt = getInstant(buffer);
+
+        MatchEvent event = switch (kind) {
+            case STARTED -> new MatchEvent.MatchStarted(
+                    new Match(homeTeam, homeTeamScore, awayTeam, awayTeamScore, true, startedAt));
+            case SCORE_UPDATED -> new MatchEvent.ScoreUpdated(
+                    new Match(homeTeam, buffer.getInt(), awayTeam, buffer.getInt(), true, startedAt),
+                    new Match(homeTeam, homeTeamScore, awayTeam, awayTeamScore, true, startedAt));
+            case FINISHED -> new MatchEvent.MatchFinished(
+                    new Match(homeTeam, homeTeamScore, awayTeam, awayTeamScore, false, startedAt));
+            default -> throw new IllegalArgumentException("Unknown kind of the audit record: " + kind);
+        };
+        return new AuditRecord(version, event);
+    }
+}
@@ -0,0 +1,157 @@
+package org.sportradar;
+
+import org.sportradar.ScoreBoard.Match;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * The finished matches in the order of finish: the earliest finished are evicted first, see {@link RetentionPolicy}.
+ * <p>
+ * The published list of the recently finished matches is a view over a range of the array of the matches,
+ * so a publish costs {@code O(1)} regardless of the number of the kept matches. The published slots
+ * are never written again: the array is replaced (grown or compacted) instead of wrapping around,
+ * and a published Match removed from the middle or the end replaces the array as well, which is rare
+ * (a replicated Match started again after its eviction on the leader).
+ * <p>
+ * Not thread-safe: guarded by the write lock of the owning {@link ScoreBoard}, the published views are immutable.
+ */
+final class FinishedMatches {
+
+    private MatchEntry[] entries = new MatchEntry[16];
+    // the states of the entries at the time of finish, read by the published views
+    private Match[] matches = new Match[16];
+    private int head;
+    private int tail;
+    // the slots below are read by the published views of the current arrays
+    private int publishedTail;
+
+    int size() {
+        return tail - head;
+    }
+
+    boolean isEmpty() {
+        return head == tail;
+    }
+
+    /**
+     * @return the earliest finished, null if there are none
+     */
+    MatchEntry first() {
+        return isEmpty() ? null : entries[head];
+    }
+
+    void addLast(MatchEntry entry) {
+        if (tail == entries.length) {
+            reallocate(size() * 2 > entries.length ? entries.length * 2 : entries.length);
+        }
+        entries[tail] = entry;
+        matches[tail] = entry.match;
+        tail++;
+    }
+
+    void removeFirst() {
+        // the Match stays in its slot: the published views may still read it
+        entries[head++] = null;
+    }
+
+    /**
+     * Removes the Match finished by the not published change, see the rollback of the changes.
+     */
+    void removeLast() {
+        if (tail <= publishedTail)
+            throw new IllegalStateException("The last finished Match has already been published");
+        entries[--tail] = null;
+    }
+
+    /**
+     * Removes the entry wherever it's in the order of finish.
+     */
+    void remove(MatchEntry entry) {
+        if (tail > publishedTail && entries[tail - 1] == entry) {
+            // not published yet, so the slot may be written again
+            removeLast();
+            return;
+        }
+        for (int i = tail - 1; i >= head; i--) {
+            if (entries[i] == entry) {
+                MatchEntry[] newEntries = new MatchEntry[entries.length];
+                Match[] newMatches = new Match[matches.length];
+                System.arraycopy(entries, head, newEntries, 0, i - head);
+                System.arraycopy(matches, head, newMatches, 0, i - head);
+                System.arraycopy(entries, i + 1, newEntries, i - head, tail - i - 1);
+                System.arraycopy(matches, i + 1, newMatches, i - head, tail - i - 1);
+                entries = newEntries;
+                matches = newMatches;
+                tail = tail - head - 1;
+                head = 0;
+                publishedTail = 0;
+                return;
+            }
+        }
+    }
+
+    void clear() {
+        entries = new MatchEntry[16];
+        matches = new Match[16];
+        head = tail = publishedTail = 0;
+    }
+
+    /**
+     * @return the entries in the order of finish
+     */
+    List<MatchEntry> entries() {
+        return List.of(Arrays.copyOfRange(entries, head, tail));
+    }
+
+    /**
+     * @return the immutable view of the finished matches, the most recently finished first
+     */
+    List<Match> published() {
+        if (isEmpty()) {
+            return List.of();
+        }
+        publishedTail = tail;
+        return new MostRecentFirst(matches, head, tail);
+    }
+
+    // a new array: the slots of the current one may be read by the published views
+    private void reallocate(int capacity) {
+        MatchEntry[] newEntries = new MatchEntry[capacity];
+        Match[] newMatches = new Match[capacity];
+        System.arraycopy(entries, head, newEntries, 0, size());
+        System.arraycopy(matches, head, newMatches, 0, size());
+        entries = newEntries;
+        matches = newMatches;
+        tail = size();
+        head = 0;
+        publishedTail = 0;
+    }
+
+    private static final class MostRecentFirst extends AbstractList<Match> implements RandomAccess {
+
+        private final Match[] matches;
+        private final int from;
+        private final int to;
+
+        MostRecentFirst(Match[] matches, int from, int to) {
+            this.matches = matches;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public Match get(int index) {
+            if (index < 0 || index >= to - from)
+                throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + (to - from));
+            return matches[to - 1 - index];
+        }
+
+        @Override
+        public int size() {
+            return to - from;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package org.sportradar;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * {@link ReplicationTransport} within a JVM: every follower gets the frames of the leader through its own bounded
+ * queue and thread, so a slow follower never stalls the writer of the leader (it's resynced instead).
+ */
+public class InProcessReplication implements ReplicationTransport {
+
+    private static final int DEFAULT_CAPACITY = 1024;
+
+    private final int capacity;
+    private final List<QueuedReplicationSink> sinks = new CopyOnWriteArrayList<>();
+    private volatile ScoreBoard leader;
+
+    public InProcessReplication() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param capacity the maximum number of the frames queued per follower
+     */
+    public InProcessReplication(int capacity) {
+        if (capacity <= 0)
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        this.capacity = capacity;
+    }
+
+    @Override
+    public void publish(ScoreBoard leader) {
+        this.leader = Objects.requireNonNull(leader);
+    }
+
+    /**
+     * @throws IllegalStateException if no leader has been published yet
+     */
+    @Override
+    public void subscribe(ScoreBoardFollower follower) {
+        ScoreBoard leader = this.leader;
+        if (leader == null)
+            throw new IllegalStateException("No leader has been published");
+
+        QueuedReplicationSink sink = new QueuedReplicationSink("score-board-replica", capacity, follower::accept,
+                failed -> {
+                    leader.removeReplica(failed);
+                    sinks.remove(failed);
+                });
+        sinks.add(sink);
+        leader.addReplica(sink);
+    }
+
+    @Override
+    public void close() {
+        for (QueuedReplicationSink sink : sinks) {
+            leader.removeReplica(sink);
+            sink.close();
+        }
+        sinks.clear();
+    }
+}
@@ -0,0 +1,239 @@
+package org.sportradar;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.sportradar.BoardStateCodec.BoardState;
+import org.sportradar.BoardStateCodec.MatchState;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Append-only write-ahead journal of the {@link ScoreBoard} changes with periodic compaction into a snapshot.
+ * <p>
+ * Every published Summary version is a frame of the journal with the new states of the changed Matches
+ * (big-endian):
+ * <pre>
+ * int    length of the frame body
+ * int    CRC32 of the frame body
+ * body:
+ *   long   version of the Summary
+ *   int    number of matches, then the matches as in {@link BoardStateCodec}, removed ones included
+ * </pre>
+ * A frame is the unit of atomicity: a torn frame at the tail (crash in the middle of write) is dropped on recovery.
+ * <p>
+ * Once per {@link JournalSettings#snapshotEveryChanges()} changes the whole board is written into the snapshot file
+ * (atomically replaced) and the journal is truncated, so the recovery reads the snapshot and a short journal tail.
+ * A failed snapshot is retried after one more interval, doubled on every next failure (up to
+ * {@value #MAX_SNAPSHOT_BACKOFF} intervals), not on every change under the write lock of the board.
+ * <p>
+ * Not thread-safe: guarded by the write lock of the owning {@link ScoreBoard}.
+ */
+final class Journal implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(Journal.class);
+
+    static final String JOURNAL_FILE = "journal.log";
+    static final String SNAPSHOT_FILE = "snapshot.bin";
+
+    private static final int FRAME_HEADER_LENGTH = 4 + 4;
+    private static final int FRAME_MIN_BODY_LENGTH = 8 + 4;
+    private static final int MAX_SNAPSHOT_BACKOFF = 64;
+
+    private final JournalSettings settings;
+    private final Path journalFile;
+    private final Path snapshotFile;
+    private final FileChannel channel;
+    private final CRC32 crc = new CRC32();
+    private ByteBuffer buffer = ByteBuffer.allocate(1024);
+
+    private int unsyncedChanges;
+    private int changesSinceSnapshot;
+    // the number of the changes since the last snapshot when the next one is due, pushed back by the failures
+    private long snapshotDueAt;
+    private int snapshotBackoff = 1;
+
+    /**
+     * The state to recover the board: the last snapshot and the frames of the journal written after the snapshot.
+     */
+    record Recovery(BoardState snapshot, List<BoardState> frames) {
+    }
+
+    private Journal(JournalSettings settings) throws IOException {
+        this.settings = settings;
+        Files.createDirectories(settings.directory());
+        this.journalFile = settings.directory().resolve(JOURNAL_FILE);
+        this.snapshotFile = settings.directory().resolve(SNAPSHOT_FILE);
+        this.channel = FileChannel.open(journalFile, CREATE, READ, WRITE);
+        this.snapshotDueAt = settings.snapshotEveryChanges();
+    }
+
+    static Journal open(JournalSettings settings) throws IOException {
+        return new Journal(settings);
+    }
+
+    /**
+     * Reads the snapshot and the journal, drops the torn tail of the journal if any.
+     * Must be called once before the first {@link #append(long, List)}.
+     */
+    Recovery recover() throws IOException {
+        BoardState snapshot = Files.exists(snapshotFile)
+            ? BoardStateCodec.decode(ByteBuffer.wrap(Files.readAllBytes(snapshotFile)))
+            : new BoardState(0, List.of());
+
+        ByteBuffer journal = ByteBuffer.allocate((int) channel.size());
+        while (journal.hasRemaining()) {
+            if (channel.read(journal, journal.position()) < 0) break;
+        }
+        journal.flip();
+
+        List<BoardState> frames = new ArrayList<>();
+        int validLength = 0;
+        while (journal.remaining() >= FRAME_HEADER_LENGTH) {
+            int length = journal.getInt();
+            int checksum = journal.getInt();
+            if (length < FRAME_MIN_BODY_LENGTH || length > journal.remaining()) break;
+
+            crc.reset();
+            crc.update(journal.array(), journal.position(), length);
+            if ((int) crc.getValue() != checksum) break;
+
+            BoardState frame = readFrame(journal.slice(journal.position(), length));
+            journal.position(journal.position() + length);
+            validLength = journal.position();
+            // frames up to the snapshot version are already in the snapshot (compaction didn't truncate the journal)
+            if (frame.version() > snapshot.version()) {
+                frames.add(frame);
+                changesSinceSnapshot += frame.matches().size();
+            }
+        }
+
+        if (validLength < channel.size()) {
+            log.warn("Journal [{}] has a torn tail, truncated from [{}] to [{}] bytes", journalFile, channel.size(), validLength);
+            channel.truncate(validLength);
+        }
+        channel.position(validLength);
+        return new Recovery(snapshot, frames);
+    }
+
+    /**
+     * Appends the frame of the given Summary version with the new states of the changed Matches.
+     * Nothing is appended if it throws.
+     */
+    void append(long version, List<MatchChange> changes) throws IOException {
+        int length = FRAME_MIN_BODY_LENGTH;
+        for (MatchChange change : changes) {
+            length += BoardStateCodec.encodedLength(change.current(), change.entry().removed);
+        }
+        if (buffer.capacity() < FRAME_HEADER_LENGTH + length) {
+            buffer = ByteBuffer.allocate(Math.max(buffer.capacity() * 2, FRAME_HEADER_LENGTH + length));
+        }
+
+        buffer.clear();
+        buffer.putInt(length).putInt(0).putLong(version).putInt(changes.size());
+        for (MatchChange change : changes) {
+            BoardStateCodec.putMatch(buffer, change.current(), change.entry().finishedAt, change.entry().removed);
+        }
+        crc.reset();
+        crc.update(buffer.array(), FRAME_HEADER_LENGTH, length);
+        buffer.putInt(4, (int) crc.getValue());
+        buffer.flip();
+
+        long position = channel.position();
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            unsyncedChanges += changes.size();
+            if (settings.syncEveryChanges() > 0 && unsyncedChanges >= settings.syncEveryChanges()) {
+                channel.force(false);
+                unsyncedChanges = 0;
+            }
+        } catch (IOException e) {
+            try {
+                channel.truncate(position);
+                channel.position(position);
+            } catch (IOException suppressed) {
+                e.addSuppressed(suppressed);
+            }
+            throw e;
+        }
+        changesSinceSnapshot += changes.size();
+    }
+
+    boolean isSnapshotDue() {
+        return changesSinceSnapshot >= snapshotDueAt;
+    }
+
+    /**
+     * Replaces the snapshot with the given state of the board and truncates the journal.
+     */
+    void writeSnapshot(BoardState state) throws IOException {
+        try {
+            replaceSnapshot(state);
+        } catch (IOException e) {
+            // the journal still has all the changes
+            snapshotDueAt = changesSinceSnapshot + (long) settings.snapshotEveryChanges() * snapshotBackoff;
+            snapshotBackoff = Math.min(snapshotBackoff * 2, MAX_SNAPSHOT_BACKOFF);
+            throw e;
+        }
+        snapshotDueAt = settings.snapshotEveryChanges();
+        snapshotBackoff = 1;
+    }
+
+    private void replaceSnapshot(BoardState state) throws IOException {
+        Path tempFile = snapshotFile.resolveSibling(SNAPSHOT_FILE + ".tmp");
+        try (FileChannel snapshot = FileChannel.open(tempFile, CREATE, WRITE, TRUNCATE_EXISTING)) {
+            ByteBuffer encoded = BoardStateCodec.encode(state);
+            while (encoded.hasRemaining()) {
+                snapshot.write(encoded);
+            }
+            snapshot.force(true);
+        }
+        Files.move(tempFile, snapshotFile, ATOMIC_MOVE, REPLACE_EXISTING);
+
+        channel.truncate(0);
+        channel.position(0);
+        channel.force(true);
+        changesSinceSnapshot = 0;
+        unsyncedChanges = 0;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            channel.force(true);
+        } finally {
+            channel.close();
+        }
+    }
+
+    private static BoardState readFrame(ByteBuffer frame) throws IOException {
+        try {
+            long version = frame.getLong();
+            int size = frame.getInt();
+            List<MatchState> matches = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                matches.add(BoardStateCodec.getMatch(frame));
+            }
+            return new BoardState(version, matches);
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            throw new IOException("Journal frame is corrupted", e);
+        }
+    }
+}
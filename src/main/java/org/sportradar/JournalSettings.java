@@ -0,0 +1,32 @@
+package org.sportradar;
+
+import java.nio.file.Path;
+import java.util.Objects;
+
+/**
+ * Settings of the write-ahead journal of the {@link ScoreBoard}, see {@link ScoreBoard.Builder#journal(JournalSettings)}.
+ *
+ * @param directory            the directory of the journal and the snapshot files, created if absent
+ * @param syncEveryChanges     the journal is forced to the storage device (fsync) once per the given number of
+ *                             changes: 1 makes every change durable, larger values trade the durability of the last
+ *                             changes on OS crash for the write latency, 0 leaves it to the OS
+ * @param snapshotEveryChanges the journal is compacted into a snapshot of the board once per the given number of
+ *                             changes, what bounds the recovery time
+ */
+public record JournalSettings(Path directory, int syncEveryChanges, int snapshotEveryChanges) {
+
+    public JournalSettings {
+        Objects.requireNonNull(directory);
+        if (syncEveryChanges < 0)
+            throw new IllegalArgumentException("syncEveryChanges can't be negative: " + syncEveryChanges);
+        if (snapshotEveryChanges < 1)
+            throw new IllegalArgumentException("snapshotEveryChanges must be positive: " + snapshotEveryChanges);
+    }
+
+    /**
+     * @return the settings with every change synced and a snapshot per 10,000 changes
+     */
+    public static JournalSettings of(Path directory) {
+        return new JournalSettings(directory, 1, 10_000);
+    }
+}
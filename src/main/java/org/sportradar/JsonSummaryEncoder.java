@@ -0,0 +1,60 @@
+package org.sportradar;
+
+import org.sportradar.ScoreBoard.Match;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Encodes the Summary to JSON:
+ * <pre>
+ * {"version":3,"matches":[
+ *   {"homeTeam":"Spain","homeTeamScore":1,"awayTeam":"Brazil","awayTeamScore":0,"startedAt":"2024-12-12T20:00:00Z"}
+ * ]}
+ * </pre>
+ */
+final class JsonSummaryEncoder implements SummaryEncoder {
+
+    @Override
+    public String mediaType() {
+        return "application/json";
+    }
+
+    @Override
+    public byte[] encode(long version, List<Match> summary) {
+        StringBuilder json = new StringBuilder(32 + summary.size() * 128);
+        json.append("{\"version\":").append(version).append(",\"matches\":[");
+        for (int i = 0; i < summary.size(); i++) {
+            Match match = summary.get(i);
+            if (i > 0) json.append(',');
+            json.append("{\"homeTeam\":");
+            appendString(json, match.homeTeam());
+            json.append(",\"homeTeamScore\":").append(match.homeTeamScore());
+            json.append(",\"awayTeam\":");
+            appendString(json, match.awayTeam());
+            json.append(",\"awayTeamScore\":").append(match.awayTeamScore());
+            json.append(",\"startedAt\":\"").append(match.startedAt()).append("\"}");
+        }
+        json.append("]}");
+        return json.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static void appendString(StringBuilder json, String value) {
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> json.append("\\\"");
+                case '\\' -> json.append("\\\\");
+                case '\n' -> json.append("\\n");
+                case '\r' -> json.append("\\r");
+                case '\t' -> json.append("\\t");
+                default -> {
+                    if (c < 0x20) json.append("\\u%04x".formatted((int) c));
+                    else json.append(c);
+                }
+            }
+        }
+        json.append('"');
+    }
+}
@@ -0,0 +1,118 @@
+package org.sportradar;
+
+import java.util.Arrays;
+
+/**
+ * Open addressing with linear probing over primitive {@code long} keys, e.g. {@link MatchKey#id()}:
+ * the base of the primitive indexes of the board, see {@link MatchTable}.
+ * <p>
+ * The table owns the slots of the keys, the subclasses keep the values in their own arrays parallel to the slots,
+ * so neither lookups nor updates allocate (no boxing, no key objects, no map nodes), unlike a {@code HashMap}.
+ * <p>
+ * Not thread-safe: guarded by the write lock of the owning {@link ScoreBoard}.
+ */
+abstract class LongKeyTable {
+
+    static final int NO_SLOT = -1;
+
+    // ids of teams are non-negative, so no MatchKey has this id
+    private static final long EMPTY = -1L;
+    private static final int INITIAL_CAPACITY = 64;
+
+    private long[] keys;
+    private int mask;
+    private int size;
+
+    final int size() {
+        return size;
+    }
+
+    /**
+     * @return the slot of the key, {@link #NO_SLOT} if there is no such key
+     */
+    final int slotOf(long key) {
+        for (int slot = slot(key); ; slot = (slot + 1) & mask) {
+            long current = keys[slot];
+            if (current == key) return slot;
+            if (current == EMPTY) return NO_SLOT;
+        }
+    }
+
+    /**
+     * @return the slot of the key to set the value of, the key is added if there is no such key
+     */
+    final int insert(long key) {
+        // load factor 0.5 keeps the probe sequences short
+        if ((size + 1) * 2 > keys.length) {
+            resize(keys.length * 2);
+        }
+        int slot = slot(key);
+        while (keys[slot] != EMPTY && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        if (keys[slot] == EMPTY) {
+            keys[slot] = key;
+            size++;
+        }
+        return slot;
+    }
+
+    /**
+     * Removes the key of the slot with its value.
+     */
+    final void delete(int slot) {
+        size--;
+        // backward shift deletion: moves the following keys of the probe sequence into the gap
+        int gap = slot;
+        for (int next = (gap + 1) & mask; keys[next] != EMPTY; next = (next + 1) & mask) {
+            int home = slot(keys[next]);
+            boolean stays = gap <= next ? gap < home && home <= next : gap < home || home <= next;
+            if (!stays) {
+                keys[gap] = keys[next];
+                moveValue(next, gap);
+                gap = next;
+            }
+        }
+        keys[gap] = EMPTY;
+        clearValue(gap);
+    }
+
+    final void clear() {
+        allocate(INITIAL_CAPACITY);
+    }
+
+    /**
+     * @return the keys by slots, {@code -1} for the empty ones: to iterate over the values
+     */
+    final long[] keys() {
+        return keys;
+    }
+
+    static boolean isEmpty(long key) {
+        return key == EMPTY;
+    }
+
+    /**
+     * Allocates the empty slots, the subclasses allocate the arrays of the values first.
+     */
+    void allocate(int capacity) {
+        keys = new long[capacity];
+        Arrays.fill(keys, EMPTY);
+        mask = capacity - 1;
+        size = 0;
+    }
+
+    /**
+     * Reallocates the table with the given capacity and inserts all the keys with the values again.
+     */
+    abstract void resize(int capacity);
+
+    abstract void moveValue(int from, int to);
+
+    abstract void clearValue(int slot);
+
+    private int slot(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+}
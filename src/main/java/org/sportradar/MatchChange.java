@@ -0,0 +1,19 @@
+package org.sportradar;
+
+import org.sportradar.ScoreBoard.Match;
+
+/**
+ * A change applied to the indexes of the {@link ScoreBoard}, but not published yet.
+ *
+ * @param entry    the changed entry of the primary index
+ * @param previous the state of the Match before the change, null if the Match has been started
+ * @param current  the state of the Match after the change
+ */
+record MatchChange(MatchEntry entry, Match previous, Match current) {
+
+    MatchEvent toEvent() {
+        if (previous == null) return new MatchEvent.MatchStarted(current);
+        if (!current.isActive()) return new MatchEvent.MatchFinished(current);
+        return new MatchEvent.ScoreUpdated(previous, current);
+    }
+}
@@ -0,0 +1,43 @@
+package org.sportradar;
+
+/**
+ * A change request to the {@link ScoreBoard}, the same as the corresponding method of the board.
+ * <p>
+ * Used to apply several changes at once, see {@link ScoreBoard#apply(java.util.List)}.
+ */
+public sealed interface MatchCommand {
+
+    String homeTeam();
+
+    String awayTeam();
+
+    static MatchCommand startMatch(String homeTeam, String awayTeam) {
+        return new StartMatch(homeTeam, awayTeam);
+    }
+
+    static MatchCommand updateScore(String homeTeam, int homeTeamScore, String awayTeam, int awayTeamScore) {
+        return new UpdateScore(homeTeam, homeTeamScore, awayTeam, awayTeamScore);
+    }
+
+    static MatchCommand finishMatch(String homeTeam, String awayTeam) {
+        return new FinishMatch(homeTeam, awayTeam);
+    }
+
+    /**
+     * @see ScoreBoard#startNewMatch(String, String)
+     */
+    record StartMatch(String homeTeam, String awayTeam) implements MatchCommand {
+    }
+
+    /**
+     * @see ScoreBoard#updateMatchScore(String, int, String, int)
+     */
+    record UpdateScore(String homeTeam, int homeTeamScore, String awayTeam, int awayTeamScore) implements MatchCommand {
+    }
+
+    /**
+     * @see ScoreBoard#finishMatch(String, String)
+     */
+    record FinishMatch(String homeTeam, String awayTeam) implements MatchCommand {
+    }
+}
@@ -0,0 +1,40 @@
+package org.sportradar;
+
+import org.sportradar.ScoreBoard.Match;
+
+import java.time.Instant;
+
+/**
+ * Mutable holder of the current state of a Match inside the {@link ScoreBoard} indexes.
+ * <p>
+ * Never exposed to the clients: only the immutable {@link Match} leaves the {@code ScoreBoard}.
+ * Guarded by the write lock of the owning {@code ScoreBoard}.
+ */
+final class MatchEntry {
+
+    final MatchKey key;
+
+    // the order of start on the board: the last tie-breaker of the summary order
+    final long seq;
+
+    Match match;
+
+    // null while the Match is active
+    Instant finishedAt;
+
+    // true once removed from the board without a finish (the reset by the replicated or imported state)
+    boolean removed;
+
+    // the last applied sequence number of the sequenced updates, read without the write lock
+    volatile long sequence = Long.MIN_VALUE;
+
+    MatchEntry(MatchKey key, long seq, Match match) {
+        this.key = key;
+        this.seq = seq;
+        this.match = match;
+    }
+
+    int totalScore() {
+        return match.homeTeamScore() + match.awayTeamScore();
+    }
+}
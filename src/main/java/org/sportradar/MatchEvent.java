@@ -0,0 +1,25 @@
+package org.sportradar;
+
+import org.sportradar.ScoreBoard.Match;
+
+/**
+ * The change of a Match on the {@link ScoreBoard} pushed to the subscribers of the board.
+ * <p>
+ * Events are immutable and published in the order the changes have been applied to the board.
+ */
+public sealed interface MatchEvent {
+
+    /**
+     * @return the state of the Match after the change
+     */
+    Match match();
+
+    record MatchStarted(Match match) implements MatchEvent {
+    }
+
+    record ScoreUpdated(Match previous, Match match) implements MatchEvent {
+    }
+
+    record MatchFinished(Match match) implements MatchEvent {
+    }
+}
@@ -0,0 +1,346 @@
+package org.sportradar;
+
+import org.sportradar.ScoreBoard.Match;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Append-only history of the changes of the {@link ScoreBoard}, see {@link ScoreBoard.Builder#history()}.
+ * <p>
+ * The events are kept in primitive columns in the order of the changes: the time (epoch nanos), the Match,
+ * the kind of the change and the score after it. Every event links the previous event of the same Match,
+ * so the timeline of a Match doesn't scan the events of the other ones. The times are made monotonic:
+ * a clock which goes back is clamped to the time of the last event.
+ * <p>
+ * A checkpoint (the matches in progress with their scores) is taken once per {@value #CHECKPOINT_EVENTS} events,
+ * or once per the number of the matches in progress if there are more of them. The Summary at a point in time
+ * is rebuilt from the last checkpoint before it: the cost is bounded by the checkpoint interval
+ * and the size of the Summary, not by the total number of events.
+ * <p>
+ * Written by the writer of the board under its write lock, read by any thread. The columns are append-only:
+ * every record publishes the arrays with the number of their written slots (the arrays are replaced to grow),
+ * so the Summary at a point in time is rebuilt without any lock. The timeline takes the own lock of the history
+ * only to read the last event of the Match, the writer holds it only to append.
+ */
+final class MatchHistory {
+
+    static final int CHECKPOINT_EVENTS = 1024;
+
+    private static final byte STARTED = 0;
+    private static final byte SCORE_UPDATED = 1;
+    private static final byte FINISHED = 2;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // the events
+    private int events;
+    private long[] times = new long[CHECKPOINT_EVENTS];
+    private int[] eventMatches = new int[CHECKPOINT_EVENTS];
+    private byte[] kinds = new byte[CHECKPOINT_EVENTS];
+    private int[] homeScores = new int[CHECKPOINT_EVENTS];
+    private int[] awayScores = new int[CHECKPOINT_EVENTS];
+    // the previous event of the same Match, -1 for the first one
+    private int[] previousEvents = new int[CHECKPOINT_EVENTS];
+
+    // the matches: every run of a pair of teams is a separate Match, identified by the seq of its entry
+    private int matchCount;
+    private String[] homeTeams = new String[64];
+    private String[] awayTeams = new String[64];
+    private long[] startedAt = new long[64];
+    private long[] seqs = new long[64];
+    private int[] lastEvents = new int[64];
+    // the previous run of the same pair of teams, -1 for the first one
+    private int[] previousRuns = new int[64];
+    private final Map<Long, Integer> matchesBySeq = new HashMap<>();
+    private final Map<MatchKey, Integer> lastRuns = new HashMap<>();
+
+    // the matches in progress after the last event: swap-remove by the position
+    private int[] active = new int[64];
+    private int activeCount;
+    private int[] activePositions = new int[64];
+
+    private Checkpoint[] checkpoints = new Checkpoint[16];
+    private int checkpointCount;
+    private int eventsSinceCheckpoint;
+
+    // the columns as of the last record, read without the lock
+    private volatile Columns published;
+
+    /**
+     * The matches in progress with their scores before the event {@code events}.
+     */
+    private record Checkpoint(int events, int[] matches, int[] homeScores, int[] awayScores) {
+    }
+
+    /**
+     * The append-only columns with the number of their written slots: the slots below are never written again.
+     */
+    private record Columns(int events, long[] times, int[] eventMatches, byte[] kinds, int[] homeScores,
+                           int[] awayScores, int[] previousEvents, String[] homeTeams, String[] awayTeams,
+                           long[] startedAt, long[] seqs, int[] previousRuns, Checkpoint[] checkpoints,
+                           int checkpointCount) {
+    }
+
+    MatchHistory() {
+        checkpoints[checkpointCount++] = new Checkpoint(0, new int[0], new int[0], new int[0]);
+        publish();
+    }
+
+    /**
+     * Appends the published changes as happened at the given time.
+     */
+    void record(List<MatchChange> changes, Instant at) {
+        lock.lock();
+        try {
+            long time = toNanos(at);
+            if (events > 0 && time < times[events - 1]) {
+                time = times[events - 1];
+            }
+            for (int i = 0; i < changes.size(); i++) {
+                MatchChange change = changes.get(i);
+                Match current = change.current();
+                boolean wasActive = change.previous() != null && change.previous().isActive();
+                if (!wasActive && !current.isActive() && change.previous() != null) {
+                    continue;
+                }
+                byte kind = !current.isActive() ? FINISHED : wasActive ? SCORE_UPDATED : STARTED;
+                append(time, match(change.entry()), kind, current.homeTeamScore(), current.awayTeamScore());
+            }
+            publish();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the Summary as it has been at the given time
+     */
+    List<Match> summaryAt(Instant at) {
+        Columns columns = published;
+        int end = eventsUntil(columns, toNanos(at));
+        Checkpoint checkpoint = checkpointBefore(columns, end);
+
+        // the matches in progress with their scores
+        Map<Integer, int[]> state = new LinkedHashMap<>();
+        for (int i = 0; i < checkpoint.matches().length; i++) {
+            state.put(checkpoint.matches()[i], new int[]{checkpoint.homeScores()[i], checkpoint.awayScores()[i]});
+        }
+        for (int event = checkpoint.events(); event < end; event++) {
+            if (columns.kinds[event] == FINISHED) {
+                state.remove(columns.eventMatches[event]);
+            } else {
+                state.put(columns.eventMatches[event], new int[]{columns.homeScores[event], columns.awayScores[event]});
+            }
+        }
+
+        List<Integer> summary = new ArrayList<>(state.keySet());
+        long[] startedAt = columns.startedAt;
+        long[] seqs = columns.seqs;
+        // the order of SummaryIndex: total score desc, startedAt desc, seq asc
+        summary.sort((a, b) -> {
+            int byScore = Integer.compare(total(state.get(b)), total(state.get(a)));
+            if (byScore != 0) return byScore;
+            int byStart = Long.compare(startedAt[b], startedAt[a]);
+            if (byStart != 0) return byStart;
+            return Long.compare(seqs[a], seqs[b]);
+        });
+        Match[] matches = new Match[summary.size()];
+        for (int i = 0; i < matches.length; i++) {
+            int match = summary.get(i);
+            int[] score = state.get(match);
+            matches[i] = match(columns, match, score[0], score[1], true);
+        }
+        return List.of(matches);
+    }
+
+    /**
+     * @return the changes of all the matches of the teams in the order of the changes, empty if they never played
+     */
+    List<TimelineEntry> timeline(String homeTeam, String awayTeam) {
+        Columns columns;
+        int lastRun;
+        int lastEvent;
+        // the last events of the previous runs are never written again
+        int[] runLastEvents;
+        lock.lock();
+        try {
+            Integer run = lastRuns.get(new MatchKey(homeTeam, awayTeam));
+            if (run == null) {
+                return List.of();
+            }
+            columns = published;
+            lastRun = run;
+            lastEvent = lastEvents[lastRun];
+            runLastEvents = lastEvents;
+        } finally {
+            lock.unlock();
+        }
+
+        List<TimelineEntry> timeline = new ArrayList<>();
+        for (int match = lastRun; match >= 0; match = columns.previousRuns[match]) {
+            int first = match == lastRun ? lastEvent : runLastEvents[match];
+            for (int event = first; event >= 0; event = columns.previousEvents[event]) {
+                timeline.add(entry(columns, event));
+            }
+        }
+        Collections.reverse(timeline);
+        return List.copyOf(timeline);
+    }
+
+    int size() {
+        return published.events;
+    }
+
+    private void publish() {
+        published = new Columns(events, times, eventMatches, kinds, homeScores, awayScores, previousEvents,
+                homeTeams, awayTeams, startedAt, seqs, previousRuns, checkpoints, checkpointCount);
+    }
+
+    private static TimelineEntry entry(Columns columns, int event) {
+        int match = columns.eventMatches[event];
+        Match state = match(columns, match, columns.homeScores[event], columns.awayScores[event],
+                columns.kinds[event] != FINISHED);
+        MatchEvent matchEvent = switch (columns.kinds[event]) {
+            case STARTED -> new MatchEvent.MatchStarted(state);
+            case FINISHED -> new MatchEvent.MatchFinished(state);
+            default -> {
+                int previous = columns.previousEvents[event];
+                yield new MatchEvent.ScoreUpdated(
+                        match(columns, match, columns.homeScores[previous], columns.awayScores[previous], true), state);
+            }
+        };
+        return new TimelineEntry(toInstant(columns.times[event]), matchEvent);
+    }
+
+    private void append(long time, int match, byte kind, int homeScore, int awayScore) {
+        if (events == times.length) {
+            int capacity = events * 2;
+            times = Arrays.copyOf(times, capacity);
+            eventMatches = Arrays.copyOf(eventMatches, capacity);
+            kinds = Arrays.copyOf(kinds, capacity);
+            homeScores = Arrays.copyOf(homeScores, capacity);
+            awayScores = Arrays.copyOf(awayScores, capacity);
+            previousEvents = Arrays.copyOf(previousEvents, capacity);
+        }
+        times[events] = time;
+        eventMatches[events] = match;
+        kinds[events] = kind;
+        homeScores[events] = homeScore;
+        awayScores[events] = awayScore;
+        previousEvents[events] = lastEvents[match];
+        lastEvents[match] = events;
+        events++;
+
+        boolean isActive = activePositions[match] >= 0;
+        if (kind == FINISHED && isActive) {
+            int position = activePositions[match];
+            int last = active[--activeCount];
+            active[position] = last;
+            activePositions[last] = position;
+            activePositions[match] = -1;
+        } else if (kind != FINISHED && !isActive) {
+            if (activeCount == active.length) {
+                active = Arrays.copyOf(active, activeCount * 2);
+            }
+            activePositions[match] = activeCount;
+            active[activeCount++] = match;
+        }
+
+        if (++eventsSinceCheckpoint >= Math.max(CHECKPOINT_EVENTS, activeCount)) {
+            checkpoint();
+        }
+    }
+
+    private void checkpoint() {
+        int[] matches = Arrays.copyOf(active, activeCount);
+        int[] home = new int[activeCount];
+        int[] away = new int[activeCount];
+        for (int i = 0; i < activeCount; i++) {
+            int event = lastEvents[matches[i]];
+            home[i] = homeScores[event];
+            away[i] = awayScores[event];
+        }
+        if (checkpointCount == checkpoints.length) {
+            checkpoints = Arrays.copyOf(checkpoints, checkpointCount * 2);
+        }
+        checkpoints[checkpointCount++] = new Checkpoint(events, matches, home, away);
+        eventsSinceCheckpoint = 0;
+    }
+
+    // the Match of the entry, registered by its first event
+    private int match(MatchEntry entry) {
+        Integer known = matchesBySeq.get(entry.seq);
+        if (known != null) {
+            return known;
+        }
+        if (matchCount == seqs.length) {
+            int capacity = matchCount * 2;
+            homeTeams = Arrays.copyOf(homeTeams, capacity);
+            awayTeams = Arrays.copyOf(awayTeams, capacity);
+            startedAt = Arrays.copyOf(startedAt, capacity);
+            seqs = Arrays.copyOf(seqs, capacity);
+            lastEvents = Arrays.copyOf(lastEvents, capacity);
+            previousRuns = Arrays.copyOf(previousRuns, capacity);
+            activePositions = Arrays.copyOf(activePositions, capacity);
+        }
+        int match = matchCount++;
+        homeTeams[match] = entry.key.homeTeam();
+        awayTeams[match] = entry.key.awayTeam();
+        startedAt[match] = toNanos(entry.match.startedAt());
+        seqs[match] = entry.seq;
+        lastEvents[match] = -1;
+        activePositions[match] = -1;
+        Integer previousRun = lastRuns.put(entry.key, match);
+        previousRuns[match] = previousRun == null ? -1 : previousRun;
+        matchesBySeq.put(entry.seq, match);
+        return match;
+    }
+
+    private static Match match(Columns columns, int match, int homeScore, int awayScore, boolean isActive) {
+        return new Match(columns.homeTeams[match], homeScore, columns.awayTeams[match], awayScore, isActive,
+                toInstant(columns.startedAt[match]));
+    }
+
+    // the number of the events at or before the time
+    private static int eventsUntil(Columns columns, long time) {
+        int low = 0;
+        int high = columns.events;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (columns.times[mid] <= time) low = mid + 1;
+            else high = mid;
+        }
+        return low;
+    }
+
+    private static Checkpoint checkpointBefore(Columns columns, int events) {
+        int low = 0;
+        int high = columns.checkpointCount - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (columns.checkpoints[mid].events() <= events) low = mid;
+            else high = mid - 1;
+        }
+        return columns.checkpoints[low];
+    }
+
+    private static int total(int[] score) {
+        return score[0] + score[1];
+    }
+
+    private static long toNanos(Instant instant) {
+        return Math.addExact(Math.multiplyExact(instant.getEpochSecond(), 1_000_000_000L), instant.getNano());
+    }
+
+    private static Instant toInstant(long nanos) {
+        return Instant.ofEpochSecond(Math.floorDiv(nanos, 1_000_000_000L), Math.floorMod(nanos, 1_000_000_000L));
+    }
+}
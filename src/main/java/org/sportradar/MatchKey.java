@@ -0,0 +1,79 @@
+package org.sportradar;
+
+/**
+ * Primary key of the Match: the pair of {@code homeTeam} & {@code awayTeam}.
+ * <p>
+ * The keys of the board also carry the {@link #id()} made of the interned ids of the teams (see {@link TeamIds}):
+ * the key of the primary index {@link MatchTable}.
+ * The hash is calculated once on creation (Strings cache their own hashes too),
+ * so the lookups in hash maps never rehash team names.
+ */
+final class MatchKey {
+
+    private static final long NO_ID = -1L;
+
+    private final String homeTeam;
+    private final String awayTeam;
+    private final long id;
+    private final int hash;
+
+    /**
+     * Creates the key of the board for the teams interned as {@code homeId} & {@code awayId}.
+     */
+    MatchKey(String homeTeam, int homeId, String awayTeam, int awayId) {
+        this(homeTeam, awayTeam, id(homeId, awayId));
+    }
+
+    /**
+     * Creates the key to look up a Match by the names of the teams only, e.g. in the diff of two Summaries.
+     */
+    MatchKey(String homeTeam, String awayTeam) {
+        this(homeTeam, awayTeam, NO_ID);
+    }
+
+    private MatchKey(String homeTeam, String awayTeam, long id) {
+        this.homeTeam = homeTeam;
+        this.awayTeam = awayTeam;
+        this.id = id;
+        // not 31 * home + away: the names of the same pattern (e.g. 'home-1' & 'away-1') would differ
+        // only in the high bits of the hash, which HashMap barely uses
+        this.hash = homeTeam.hashCode() * 0x9E3779B9 ^ awayTeam.hashCode();
+    }
+
+    static long id(int homeId, int awayId) {
+        return ((long) homeId << 32) | (awayId & 0xFFFFFFFFL);
+    }
+
+    static MatchKey of(ScoreBoard.Match match) {
+        return new MatchKey(match.homeTeam(), match.awayTeam());
+    }
+
+    String homeTeam() {
+        return homeTeam;
+    }
+
+    String awayTeam() {
+        return awayTeam;
+    }
+
+    long id() {
+        return id;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof MatchKey other)) return false;
+        return hash == other.hash && homeTeam.equals(other.homeTeam) && awayTeam.equals(other.awayTeam);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return homeTeam + " vs " + awayTeam;
+    }
+}
@@ -0,0 +1,75 @@
+package org.sportradar;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Primary index of the board: the entries of all the matches by {@link MatchKey#id()}.
+ * <p>
+ * Open addressing with linear probing over primitive {@code long} keys (see {@link LongKeyTable}): neither lookups
+ * nor updates allocate (no boxing, no key objects, no map nodes), unlike a {@code HashMap}.
+ * <p>
+ * Not thread-safe: guarded by the write lock of the owning {@link ScoreBoard}.
+ */
+final class MatchTable extends LongKeyTable {
+
+    private MatchEntry[] entries;
+
+    MatchTable() {
+        clear();
+    }
+
+    MatchEntry get(long key) {
+        int slot = slotOf(key);
+        return slot == NO_SLOT ? null : entries[slot];
+    }
+
+    void put(MatchEntry entry) {
+        // the slot first: the insert may reallocate the entries
+        int slot = insert(entry.key.id());
+        entries[slot] = entry;
+    }
+
+    void remove(long key) {
+        int slot = slotOf(key);
+        if (slot != NO_SLOT) {
+            delete(slot);
+        }
+    }
+
+    /**
+     * @return a copy of all the entries in no particular order
+     */
+    List<MatchEntry> values() {
+        List<MatchEntry> values = new ArrayList<>(size());
+        for (MatchEntry entry : entries) {
+            if (entry != null) values.add(entry);
+        }
+        return values;
+    }
+
+    @Override
+    void allocate(int capacity) {
+        entries = new MatchEntry[capacity];
+        super.allocate(capacity);
+    }
+
+    @Override
+    void resize(int capacity) {
+        MatchEntry[] oldEntries = entries;
+        allocate(capacity);
+        for (MatchEntry entry : oldEntries) {
+            if (entry != null) put(entry);
+        }
+    }
+
+    @Override
+    void moveValue(int from, int to) {
+        entries[to] = entries[from];
+    }
+
+    @Override
+    void clearValue(int slot) {
+        entries[slot] = null;
+    }
+}
@@ -0,0 +1,346 @@
+package org.sportradar;
+
+import org.sportradar.ScoreBoard.Match;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.time.Instant;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * Off-heap storage of the finished matches, see {@link ScoreBoard.Builder#offHeapArchive()}.
+ * <p>
+ * Every finished Match is a fixed-width record in direct memory, in the order of finish (native byte order):
+ * <pre>
+ * 0  int  homeTeam id (see {@link TeamIds})   4  int  awayTeam id
+ * 8  int  homeTeamScore                       12 int  awayTeamScore
+ * 16 long startedAt, epoch millis             24 long finishedAt, epoch millis
+ * 32 long seq (the order of start)            40 long sequence of the last sequenced update
+ * 48 byte flags: 1 if the record is live, 0 if it has been removed
+ * </pre>
+ * The records are looked up by {@link MatchKey#id()} in a primitive open-addressing index, so a finished Match
+ * costs {@value #RECORD_SIZE} bytes off-heap and ~24 bytes of primitive arrays without any object on the heap.
+ * {@link Match} objects are materialized only when they are read, the times are kept with millisecond precision.
+ * <p>
+ * The records are evicted in the order of finish (FIFO), the memory is released by whole chunks.
+ * <p>
+ * Not thread-safe: guarded by the write lock of the owning {@link ScoreBoard}. The published {@link #recent()} views
+ * are read without the lock: a record is never written again once it's in a published range, the chunk of a removed
+ * record is copied before its flags are cleared (rare: a Match started again or dropped after its finish).
+ */
+final class OffHeapMatchArchive {
+
+    static final int RECORD_SIZE = 64;
+    private static final int CHUNK_RECORDS = 1 << 14;
+
+    private static final int HOME_ID = 0;
+    private static final int AWAY_ID = 4;
+    private static final int HOME_SCORE = 8;
+    private static final int AWAY_SCORE = 12;
+    private static final int STARTED_AT = 16;
+    private static final int FINISHED_AT = 24;
+    private static final int SEQ = 32;
+    private static final int SEQUENCE = 40;
+    private static final int FLAGS = 48;
+    private static final byte LIVE = 1;
+
+    private final TeamIds teamIds;
+
+    // chunks of CHUNK_RECORDS records, the evicted leading chunks are released (null)
+    private final List<ByteBuffer> chunks = new ArrayList<>();
+    // the chunks read by the last published view, shared with it until a chunk is added, released or copied
+    private ByteBuffer[] publishedChunks = new ByteBuffer[0];
+    private boolean chunksChanged;
+    private final RecordIndex index = new RecordIndex();
+
+    // the records in [head, tail) are either live or removed
+    private int head;
+    private int tail;
+    private int size;
+
+    OffHeapMatchArchive(TeamIds teamIds) {
+        this.teamIds = teamIds;
+    }
+
+    /**
+     * @return the number of the live records
+     */
+    int size() {
+        return size;
+    }
+
+    void add(MatchEntry entry) {
+        if (tail == chunks.size() * CHUNK_RECORDS) {
+            chunks.add(ByteBuffer.allocateDirect(CHUNK_RECORDS * RECORD_SIZE).order(ByteOrder.nativeOrder()));
+            chunksChanged = true;
+        }
+        int record = tail++;
+        ByteBuffer chunk = chunk(record);
+        int offset = offset(record);
+        Match match = entry.match;
+        chunk.putInt(offset + HOME_ID, homeId(entry.key))
+                .putInt(offset + AWAY_ID, awayId(entry.key))
+                .putInt(offset + HOME_SCORE, match.homeTeamScore())
+                .putInt(offset + AWAY_SCORE, match.awayTeamScore())
+                .putLong(offset + STARTED_AT, match.startedAt().toEpochMilli())
+                .putLong(offset + FINISHED_AT, entry.finishedAt.toEpochMilli())
+                .putLong(offset + SEQ, entry.seq)
+                .putLong(offset + SEQUENCE, entry.sequence)
+                .put(offset + FLAGS, LIVE);
+        index.put(entry.key.id(), record);
+        size++;
+    }
+
+    boolean contains(long id) {
+        return index.get(id) != RecordIndex.NOT_FOUND;
+    }
+
+    /**
+     * @return the sequence of the last sequenced update of the Match, {@link Long#MIN_VALUE} if none or not archived
+     */
+    long sequence(long id) {
+        int record = index.get(id);
+        return record == RecordIndex.NOT_FOUND ? Long.MIN_VALUE : chunk(record).getLong(offset(record) + SEQUENCE);
+    }
+
+    void remove(long id) {
+        int record = index.remove(id);
+        if (record != RecordIndex.NOT_FOUND) {
+            writableChunk(record).put(offset(record) + FLAGS, (byte) 0);
+            size--;
+        }
+    }
+
+    /**
+     * @return the finish time of the earliest finished live record, null if there are none
+     */
+    Instant earliestFinishedAt() {
+        skipRemoved();
+        return head == tail ? null : Instant.ofEpochMilli(chunk(head).getLong(offset(head) + FINISHED_AT));
+    }
+
+    void removeEarliest() {
+        skipRemoved();
+        if (head == tail) return;
+        ByteBuffer chunk = chunk(head);
+        int offset = offset(head);
+        index.remove(MatchKey.id(chunk.getInt(offset + HOME_ID), chunk.getInt(offset + AWAY_ID)));
+        size--;
+        advanceHead();
+    }
+
+    /**
+     * Publishes the current records: {@code O(1)}, the records are materialized by the first read of the view
+     * on the reader thread without the lock, see {@link ScoreBoard#getRecentlyFinished()}.
+     *
+     * @return the immutable view of all the live records as the matches, the most recently finished first
+     */
+    List<Match> recent() {
+        if (size == 0) {
+            return List.of();
+        }
+        if (chunksChanged) {
+            publishedChunks = chunks.toArray(new ByteBuffer[0]);
+            chunksChanged = false;
+        }
+        return new Recent(publishedChunks, teamIds.names(), head, tail, size);
+    }
+
+    /**
+     * @return all the live records materialized as the entries, in the order of finish
+     */
+    List<MatchEntry> entries() {
+        List<MatchEntry> entries = new ArrayList<>(size);
+        for (int record = head; record < tail; record++) {
+            if (!isLive(record)) continue;
+            ByteBuffer chunk = chunk(record);
+            int offset = offset(record);
+            int homeId = chunk.getInt(offset + HOME_ID);
+            int awayId = chunk.getInt(offset + AWAY_ID);
+            MatchKey key = new MatchKey(teamIds.name(homeId), homeId, teamIds.name(awayId), awayId);
+            MatchEntry entry = new MatchEntry(key, chunk.getLong(offset + SEQ), match(record));
+            entry.finishedAt = Instant.ofEpochMilli(chunk.getLong(offset + FINISHED_AT));
+            entry.sequence = chunk.getLong(offset + SEQUENCE);
+            entries.add(entry);
+        }
+        return entries;
+    }
+
+    void clear() {
+        chunks.clear();
+        chunksChanged = true;
+        index.clear();
+        head = tail = size = 0;
+    }
+
+    private Match match(int record) {
+        return match(chunk(record), offset(record), teamIds.names());
+    }
+
+    private static Match match(ByteBuffer chunk, int offset, String[] names) {
+        return new Match(
+                names[chunk.getInt(offset + HOME_ID)], chunk.getInt(offset + HOME_SCORE),
+                names[chunk.getInt(offset + AWAY_ID)], chunk.getInt(offset + AWAY_SCORE),
+                false, Instant.ofEpochMilli(chunk.getLong(offset + STARTED_AT)));
+    }
+
+    private boolean isLive(int record) {
+        return chunk(record).get(offset(record) + FLAGS) == LIVE;
+    }
+
+    // the chunk of the record, copied first if the last published view reads it
+    private ByteBuffer writableChunk(int record) {
+        int index = record / CHUNK_RECORDS;
+        ByteBuffer chunk = chunks.get(index);
+        if (index < publishedChunks.length && publishedChunks[index] == chunk) {
+            ByteBuffer copy = ByteBuffer.allocateDirect(chunk.capacity()).order(ByteOrder.nativeOrder());
+            copy.put(chunk.duplicate().clear()).clear();
+            chunks.set(index, copy);
+            chunksChanged = true;
+            return copy;
+        }
+        return chunk;
+    }
+
+    private void skipRemoved() {
+        while (head < tail && !isLive(head)) {
+            advanceHead();
+        }
+    }
+
+    private void advanceHead() {
+        head++;
+        if (head % CHUNK_RECORDS == 0) {
+            // the chunk has no live records anymore
+            chunks.set(head / CHUNK_RECORDS - 1, null);
+            chunksChanged = true;
+        }
+    }
+
+    private ByteBuffer chunk(int record) {
+        return chunks.get(record / CHUNK_RECORDS);
+    }
+
+    private static int offset(int record) {
+        return (record % CHUNK_RECORDS) * RECORD_SIZE;
+    }
+
+    private int homeId(MatchKey key) {
+        return (int) (key.id() >>> 32);
+    }
+
+    private int awayId(MatchKey key) {
+        return (int) key.id();
+    }
+
+    /**
+     * The live records of [from, to) decoded once by the first read, the chunks are never written in this range.
+     */
+    private static final class Recent extends AbstractList<Match> implements RandomAccess {
+
+        private final ByteBuffer[] chunks;
+        private final String[] names;
+        private final int from;
+        private final int to;
+        private final int size;
+
+        // racy single-check: a concurrent first read may decode the same immutable matches twice
+        private volatile Match[] matches;
+
+        Recent(ByteBuffer[] chunks, String[] names, int from, int to, int size) {
+            this.chunks = chunks;
+            this.names = names;
+            this.from = from;
+            this.to = to;
+            this.size = size;
+        }
+
+        @Override
+        public Match get(int index) {
+            Objects.checkIndex(index, size);
+            return matches()[index];
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        private Match[] matches() {
+            Match[] decoded = matches;
+            if (decoded == null) {
+                decoded = new Match[size];
+                int i = 0;
+                for (int record = to - 1; record >= from; record--) {
+                    ByteBuffer chunk = chunks[record / CHUNK_RECORDS];
+                    int offset = offset(record);
+                    if (chunk.get(offset + FLAGS) == LIVE) decoded[i++] = match(chunk, offset, names);
+                }
+                matches = decoded;
+            }
+            return decoded;
+        }
+    }
+
+    /**
+     * {@link MatchKey#id()} to the number of the record, see {@link LongKeyTable}.
+     */
+    private static final class RecordIndex extends LongKeyTable {
+
+        static final int NOT_FOUND = -1;
+
+        private int[] records;
+
+        RecordIndex() {
+            clear();
+        }
+
+        int get(long key) {
+            int slot = slotOf(key);
+            return slot == NO_SLOT ? NOT_FOUND : records[slot];
+        }
+
+        void put(long key, int record) {
+            int slot = insert(key);
+            records[slot] = record;
+        }
+
+        int remove(long key) {
+            int slot = slotOf(key);
+            if (slot == NO_SLOT) return NOT_FOUND;
+            int record = records[slot];
+            delete(slot);
+            return record;
+        }
+
+        @Override
+        void allocate(int capacity) {
+            records = new int[capacity];
+            super.allocate(capacity);
+        }
+
+        @Override
+        void resize(int capacity) {
+            long[] oldKeys = keys();
+            int[] oldRecords = records;
+            allocate(capacity);
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (!isEmpty(oldKeys[i])) put(oldKeys[i], oldRecords[i]);
+            }
+        }
+
+        @Override
+        void moveValue(int from, int to) {
+            records[to] = records[from];
+        }
+
+        @Override
+        void clearValue(int slot) {
+            // a primitive value holds no reference
+        }
+    }
+}
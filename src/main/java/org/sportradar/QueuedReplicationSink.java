@@ -0,0 +1,80 @@
+package org.sportradar;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * {@link ReplicationSink} with a bounded queue of frames and an own thread sending them to the follower,
+ * so a slow follower never stalls the writer of the leader: when its queue is full, it's resynced.
+ */
+final class QueuedReplicationSink implements ReplicationSink, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(QueuedReplicationSink.class);
+
+    @FunctionalInterface
+    interface FrameSender {
+        void send(ByteBuffer frame) throws IOException;
+    }
+
+    private final BlockingQueue<ByteBuffer> queue;
+    private final FrameSender sender;
+    private final Consumer<QueuedReplicationSink> onFailure;
+    private final Thread thread;
+    private volatile boolean closed;
+
+    /**
+     * @param onFailure called by the sending thread once the sender fails, the sink is closed then
+     */
+    QueuedReplicationSink(String name, int capacity, FrameSender sender, Consumer<QueuedReplicationSink> onFailure) {
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.sender = sender;
+        this.onFailure = onFailure;
+        this.thread = new Thread(this::run, name);
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    @Override
+    public boolean offer(ByteBuffer frame) {
+        return queue.offer(frame);
+    }
+
+    @Override
+    public void resync(ByteBuffer state) {
+        // the leader is the only producer: the queue has room for the state after it's cleared
+        queue.clear();
+        queue.offer(state);
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        thread.interrupt();
+    }
+
+    private void run() {
+        while (!closed) {
+            try {
+                ByteBuffer frame = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (frame != null) {
+                    sender.send(frame.duplicate());
+                }
+            } catch (InterruptedException e) {
+                // only close() stops the sink
+            } catch (IOException | RuntimeException e) {
+                if (!closed) {
+                    log.warn("Failed to send the replication frame, the follower is disconnected", e);
+                    closed = true;
+                    onFailure.accept(this);
+                }
+            }
+        }
+    }
+}
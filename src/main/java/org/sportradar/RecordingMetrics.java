@@ -0,0 +1,83 @@
+package org.sportradar;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link ScoreBoardMetrics} which keep the latency histograms of the write operations, the lock wait
+ * and the publishing of the Summary, the number of the Summary reads and the current size of the board.
+ * <p>
+ * Cheap enough to stay on under full load: recording never allocates or blocks.
+ * A single instance may be shared by several boards to get the totals.
+ */
+public final class RecordingMetrics implements ScoreBoardMetrics {
+
+    private final Map<Operation, LatencyHistogram> writes = new EnumMap<>(Operation.class);
+    private final LatencyHistogram lockWait = new LatencyHistogram();
+    private final LatencyHistogram summaryPublish = new LatencyHistogram();
+    private final LongAdder summaryReads = new LongAdder();
+    private volatile int liveMatches;
+
+    public RecordingMetrics() {
+        for (Operation operation : Operation.values()) {
+            writes.put(operation, new LatencyHistogram());
+        }
+    }
+
+    @Override
+    public void recordWrite(Operation operation, long nanos) {
+        writes.get(operation).record(nanos);
+    }
+
+    @Override
+    public void recordLockWait(long nanos) {
+        lockWait.record(nanos);
+    }
+
+    @Override
+    public void recordSummaryPublish(long nanos, int liveMatches) {
+        summaryPublish.record(nanos);
+        this.liveMatches = liveMatches;
+    }
+
+    @Override
+    public void recordSummaryRead() {
+        summaryReads.increment();
+    }
+
+    /**
+     * @return the latencies of the given write operation
+     */
+    public LatencyHistogram writes(Operation operation) {
+        return writes.get(operation);
+    }
+
+    /**
+     * @return the time the writers waited for the write lock
+     */
+    public LatencyHistogram lockWait() {
+        return lockWait;
+    }
+
+    /**
+     * @return the time to build and publish the Summary on changes
+     */
+    public LatencyHistogram summaryPublish() {
+        return summaryPublish;
+    }
+
+    /**
+     * @return the total number of the Summary reads
+     */
+    public long summaryReads() {
+        return summaryReads.sum();
+    }
+
+    /**
+     * @return the number of the matches in progress in the last published Summary
+     */
+    public int liveMatches() {
+        return liveMatches;
+    }
+}
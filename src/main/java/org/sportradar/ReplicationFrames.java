@@ -0,0 +1,55 @@
+package org.sportradar;
+
+import org.sportradar.BoardStateCodec.BoardState;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+
+/**
+ * Binary format of the replication frames sent by the leading {@link ScoreBoard} to the followers (big-endian):
+ * <pre>
+ * byte   kind: 0 the whole state of the board, 1 the changes of a single Summary version
+ * long   published at: seconds of epoch (the clock of the leader)
+ * int    published at: nanos of the second
+ * then   the state or the changed matches in the format of {@link BoardStateCodec}
+ * </pre>
+ */
+final class ReplicationFrames {
+
+    private static final byte STATE = 0;
+    private static final byte CHANGES = 1;
+
+    /**
+     * @param reset true if the frame has the whole state of the board, false if it has the changed matches only
+     */
+    record Frame(boolean reset, Instant publishedAt, BoardState state) {
+    }
+
+    private ReplicationFrames() {
+    }
+
+    static ByteBuffer encode(boolean reset, Instant publishedAt, BoardState state) {
+        ByteBuffer body = BoardStateCodec.encode(state);
+        ByteBuffer frame = ByteBuffer.allocate(1 + 8 + 4 + body.remaining());
+        frame.put(reset ? STATE : CHANGES);
+        BoardStateCodec.putInstant(frame, publishedAt);
+        return frame.put(body).flip().asReadOnlyBuffer();
+    }
+
+    static Frame decode(ByteBuffer frame) throws IOException {
+        try {
+            byte kind = frame.get();
+            if (kind != STATE && kind != CHANGES)
+                throw new IOException("Unknown kind of the replication frame: " + kind);
+            Instant publishedAt = BoardStateCodec.getInstant(frame);
+            BoardState state = kind == STATE ? BoardStateCodec.decode(frame) : BoardStateCodec.decodeChanges(frame);
+            return new Frame(kind == STATE, publishedAt, state);
+        } catch (BufferUnderflowException e) {
+            throw new IOException("Replication frame is truncated", e);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Replication frame is malformed", e);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package org.sportradar;
+
+import java.nio.ByteBuffer;
+
+/**
+ * The connection of a follower to the leading {@link ScoreBoard}, see {@link ScoreBoard#addReplica(ReplicationSink)}:
+ * the way a {@link ReplicationTransport} receives the change log of the leader.
+ * <p>
+ * The frames are handed to the sink by the writer under the write lock of the leader, in the order of the Summary
+ * versions: implementations must never block, e.g. queue the frames and send them asynchronously.
+ * The frames are read-only and shared by all the sinks.
+ */
+public interface ReplicationSink {
+
+    /**
+     * @param frame the changes of the next Summary version
+     * @return false if the frame can't be accepted (e.g. the queue is full): the leader calls {@link #resync} then
+     */
+    boolean offer(ByteBuffer frame);
+
+    /**
+     * Replaces all the frames not sent yet by the whole state of the leader: the follower starts over from it.
+     * Called when the follower connects and when it lags too far behind.
+     *
+     * @param state the whole state of the leader
+     */
+    void resync(ByteBuffer state);
+}
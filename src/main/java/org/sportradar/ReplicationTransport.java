@@ -0,0 +1,29 @@
+package org.sportradar;
+
+import java.io.IOException;
+
+/**
+ * Delivers the change log of the leading {@link ScoreBoard} to the {@link ScoreBoardFollower}s:
+ * {@link InProcessReplication} within a JVM, {@link SocketReplication} across processes.
+ * <p>
+ * Custom transports use the same hooks: {@link ScoreBoard#addReplica(ReplicationSink)} on the leader side
+ * and {@link ScoreBoardFollower#accept(java.nio.ByteBuffer)} on the follower side.
+ */
+public interface ReplicationTransport extends AutoCloseable {
+
+    /**
+     * Leader side: starts to serve the change log of the board to the followers.
+     */
+    void publish(ScoreBoard leader) throws IOException;
+
+    /**
+     * Follower side: starts to feed the follower with the change log of the leader.
+     */
+    void subscribe(ScoreBoardFollower follower) throws IOException;
+
+    /**
+     * Stops the replication, the boards stay open.
+     */
+    @Override
+    void close();
+}
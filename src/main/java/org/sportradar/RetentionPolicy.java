@@ -0,0 +1,58 @@
+package org.sportradar;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * How long the finished matches are kept in the {@link ScoreBoard} after finish, see
+ * {@link ScoreBoard.Builder#retentionPolicy(RetentionPolicy)}.
+ * <p>
+ * A finished Match is evicted when it has been finished longer than {@code gracePeriod} ago
+ * or when there are more than {@code maxFinishedMatches} finished matches (the earliest finished are evicted first).
+ * An evicted Match is forgotten by the board: the same teams may start a new Match then.
+ *
+ * @param gracePeriod        the time to keep a finished Match, null to keep regardless of time
+ * @param maxFinishedMatches the maximum number of the finished matches to keep
+ */
+public record RetentionPolicy(Duration gracePeriod, int maxFinishedMatches) {
+
+    private static final RetentionPolicy KEEP_ALL = new RetentionPolicy(null, Integer.MAX_VALUE);
+
+    public RetentionPolicy {
+        if (gracePeriod != null && gracePeriod.isNegative())
+            throw new IllegalArgumentException("gracePeriod can't be negative: " + gracePeriod);
+        if (maxFinishedMatches < 0)
+            throw new IllegalArgumentException("maxFinishedMatches can't be negative: " + maxFinishedMatches);
+    }
+
+    /**
+     * @return the policy to keep all the finished matches forever: the default one
+     */
+    public static RetentionPolicy keepAll() {
+        return KEEP_ALL;
+    }
+
+    /**
+     * @return the policy to keep the finished matches for the given time
+     */
+    public static RetentionPolicy keepFor(Duration gracePeriod) {
+        return new RetentionPolicy(Objects.requireNonNull(gracePeriod), Integer.MAX_VALUE);
+    }
+
+    /**
+     * @return the policy to keep the given number of the last finished matches
+     */
+    public static RetentionPolicy keepLast(int maxFinishedMatches) {
+        return new RetentionPolicy(null, maxFinishedMatches);
+    }
+
+    boolean isBounded() {
+        return gracePeriod != null || maxFinishedMatches != Integer.MAX_VALUE;
+    }
+
+    boolean isExpired(Instant finishedAt, Instant now, int finishedMatches) {
+        return finishedMatches > maxFinishedMatches
+                || gracePeriod != null && Duration.between(finishedAt, now).compareTo(gracePeriod) >= 0;
+    }
+}
@@ -2,13 +2,41 @@ package org.sportradar;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.sportradar.BoardStateCodec.BoardState;
+import org.sportradar.BoardStateCodec.MatchState;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.InstantSource;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
 
 import static org.sportradar.ScoreBoard.SportRadarException.matchAlreadyRunException;
 import static org.sportradar.ScoreBoard.SportRadarException.matchNotFoundException;
@@ -30,40 +58,137 @@ import static org.sportradar.ScoreBoard.SportRadarException.updateInactiveMatchE
  * What allows to give a live (low-latency) summary of WorldCup with zero computations,
  * but with slower Write ops as a tradeoff.
  *
+ * <h1>Change events
+ * <p>Instead of polling the Summary, clients may {@link #subscribe(Flow.Subscriber) subscribe} to the board
+ * and receive a {@link MatchEvent} on every change of a Match.
+ *
  * <p>
  * todo list:
  * - consider 3-rd party lib for validation
  *
  * @author Kiryl Drabysheuski
  */
-public class ScoreBoard {
+public class ScoreBoard implements Flow.Publisher<MatchEvent>, AutoCloseable {
 
     public static final Logger log = LoggerFactory.getLogger(ScoreBoard.class);
 
-    // expected ~50 matches with rare changes (goals): World Cup 2026 - 48 competitors
-    private final List<Match> matches;
+    // the maximum length of a team name in UTF-8 bytes
+    static final int MAX_TEAM_NAME_BYTES = 0xFFFF;
+
+    // expected ~50 matches with rare changes (goals): World Cup 2026 - 48 competitors.
+    // Primary (clustered) index: all the matches by (homeTeam, awayTeam), finished ones included.
+    // Keyed by the interned ids of the teams, so the lookups of the write path don't allocate
+    private final MatchTable matches;
+    private final TeamIds teamIds = new TeamIds();
+
+    // the same entries by the names of the teams for the lock-free stale check of the sequenced updates
+    private final Map<String, Map<String, MatchEntry>> entriesByTeams = new ConcurrentHashMap<>();
+    private final LongAdder staleUpdates = new LongAdder();
+
+    // Secondary (covering) index: only the active matches in the Summary order, maintained on every change
+    private final SummaryIndex summaryIndex;
+    private long startedMatches;
+
+    // the Summary filtered by the named groups and the teams which have been read, maintained on every change
+    private final SummaryViews summaryViews;
+
+    private final FinishedMatches finishedMatches = new FinishedMatches();
+    private final RetentionPolicy retentionPolicy;
+
+    // the finished matches moved off the heap, null if they are kept on the heap (see Builder#offHeapArchive)
+    private final OffHeapMatchArchive archive;
 
     // Much preferences are given to Read ops: expected incredibly high number of watchers of world football cup
-    // Calculate Summary on changes with unmodifiable List and immutable objects: eagerly populated cache of Summary on any Match changes
-    private volatile List<Match> summary;
+    // Calculate Summary on changes with unmodifiable List and immutable objects: eagerly populated cache of Summary on any Match changes.
+    // Readers never lock: the volatile write publishes a fully built immutable snapshot, a single volatile read observes it
+    private volatile Snapshot snapshot;
+
+    // the recently published snapshots by version (version % HISTORY_SIZE) to calculate the changes since a known version
+    private static final int HISTORY_SIZE = 64;
+    private final AtomicReferenceArray<Snapshot> history = new AtomicReferenceArray<>(HISTORY_SIZE);
+
+    // completed on the next published Summary to wake up the waiters of awaitChange, created by the first waiter
+    private final AtomicReference<CompletableFuture<Void>> nextChange = new AtomicReference<>();
+    // taken from nextChange under the write lock, completed after the lock is released
+    private CompletableFuture<Void> pendingChange;
 
     private final InstantSource instantSource;
+    private final SummaryEncoder summaryEncoder;
+
+    // write-ahead journal of the changes, null if the board is not journaled
+    private final Journal journal;
+
+    // the history of the changes for the point-in-time queries, null if not recorded
+    private final MatchHistory matchHistory;
+
+    // internal synchronous listener of the changes, null if none
+    private final ChangeListener changeListener;
+
+    // the audit trail of the changes, null if not audited
+    private final AuditSink auditSink;
+
+    // the connections of the followers to this board, see addReplica
+    private final List<ReplicationSink> replicas = new CopyOnWriteArrayList<>();
+    // a follower is changed by the replicated frames only, see ScoreBoardFollower
+    private final boolean readOnly;
 
-    private final ReentrantReadWriteLock reentrantLock = new ReentrantReadWriteLock();
-    private final ReentrantReadWriteLock.WriteLock writeLock = reentrantLock.writeLock();
-    private final ReentrantReadWriteLock.ReadLock readLock = reentrantLock.readLock();
+    // the clock is read only if the metrics are not the no-op ones
+    private final ScoreBoardMetrics metrics;
+    private final boolean timed;
 
+    // Serializes writers only. Readers don't participate in locking at all (see getSummary)
+    private final ReentrantLock writeLock;
+
+    // Events are offered under the writeLock to keep the order of changes, but never block the writer:
+    // each subscriber has a bounded buffer, events which don't fit are dropped for this subscriber
+    private final SubmissionPublisher<MatchEvent> events = new SubmissionPublisher<>();
+    private final LongAdder droppedEvents = new LongAdder();
 
     ScoreBoard(InstantSource instantSource) {
-        this.instantSource = instantSource;
-        this.matches = new ArrayList<>();
-        summary = new ArrayList<>();
+        this(new Builder().instantSource(instantSource));
     }
 
     public ScoreBoard() {
-        this.matches = new ArrayList<>();
-        instantSource = InstantSource.system();
-        summary = new ArrayList<>();
+        this(new Builder());
+    }
+
+    private ScoreBoard(Builder builder) {
+        this.instantSource = builder.instantSource;
+        this.summaryEncoder = builder.summaryEncoder;
+        this.retentionPolicy = builder.retentionPolicy;
+        this.changeListener = builder.changeListener;
+        this.auditSink = builder.auditSink;
+        this.readOnly = builder.readOnly;
+        this.metrics = builder.metrics;
+        this.timed = metrics != ScoreBoardMetrics.noop();
+        this.writeLock = new ReentrantLock(builder.fairWriteLock);
+        this.matches = new MatchTable();
+        this.summaryIndex = new SummaryIndex();
+        this.summaryViews = new SummaryViews(builder.groups, summaryIndex);
+        this.archive = builder.offHeapArchive ? new OffHeapMatchArchive(teamIds) : null;
+        this.matchHistory = builder.history ? new MatchHistory() : null;
+
+        long version = 0;
+        if (builder.journalSettings != null) {
+            journal = openJournal(builder.journalSettings);
+            version = recover(journal);
+        } else {
+            journal = null;
+        }
+        snapshot = new Snapshot(version, summaryIndex.toList(), recentlyFinished(), summaryEncoder);
+        summaryViews.apply(activeMatches());
+        if (matchHistory != null && summaryIndex.size() > 0) {
+            // the recovered matches are in progress since the board has been built
+            matchHistory.record(activeMatches(), instantSource.instant());
+        }
+        history.set((int) (version % HISTORY_SIZE), snapshot);
+    }
+
+    /**
+     * @return the builder of the {@code ScoreBoard} with the optional features
+     */
+    public static Builder builder() {
+        return new Builder();
     }
 
     /**
@@ -75,18 +200,13 @@ public class ScoreBoard {
      * @throws SportRadarException if the Match has been already run
      */
     public Match startNewMatch(String homeTeam, String awayTeam) {
-        log.info("Start new Match: homeTeam [{}], awayTeam [{}]", homeTeam, awayTeam);
         validateTeams(homeTeam, awayTeam);
 
-        writeLock.lock();
+        long start = lockForWrite();
         try {
-            validateMatchNotRun(homeTeam, awayTeam);
-            Match match = Match.startMatch(homeTeam, awayTeam, instantSource.instant());
-            matches.add(match);
-            summary = calculateSummary(matches);
-            return match;
+            return commit(start(homeTeam, awayTeam));
         } finally {
-            writeLock.unlock();
+            unlock(ScoreBoardMetrics.Operation.START_MATCH, start);
         }
     }
 
@@ -102,27 +222,14 @@ public class ScoreBoard {
      *                             or the Match is Not in progress
      */
     public Match updateMatchScore(String homeTeam, int homeTeamScore, String awayTeam, int awayTeamScore) {
-        log.info("Update Match [{}] vs [{}] to Score [{}], [{}]", homeTeam, awayTeam, homeTeamScore, awayTeamScore);
         validateTeams(homeTeam, awayTeam);
         validateScore(homeTeamScore, awayTeamScore);
 
-        writeLock.lock();
+        long start = lockForWrite();
         try {
-            for (int i = 0; i < matches.size(); i++) {
-                Match match = matches.get(i);
-                if (match.homeTeam.equals(homeTeam) && match.awayTeam.equals(awayTeam)) {
-                    if (!match.isActive) {
-                        throw updateInactiveMatchException(homeTeam, awayTeam);
-                    }
-                    Match updatedMatch = match.updateScore(homeTeamScore, awayTeamScore);
-                    matches.set(i, updatedMatch);
-                    summary = calculateSummary(matches);
-                    return updatedMatch;
-                }
-            }
-            throw matchNotFoundException(homeTeam, awayTeam);
+            return commit(updateScore(homeTeam, homeTeamScore, awayTeam, awayTeamScore));
         } finally {
-            writeLock.unlock();
+            unlock(ScoreBoardMetrics.Operation.UPDATE_SCORE, start);
         }
     }
 
@@ -136,27 +243,411 @@ public class ScoreBoard {
      *                             or the Match is Not in progress
      */
     public Match finishMatch(String homeTeam, String awayTeam) {
-        log.info("Finish the Match between homeTeam [{}] and awayTeam [{}]", homeTeam, awayTeam);
         validateTeams(homeTeam, awayTeam);
 
-        writeLock.lock();
+        long start = lockForWrite();
         try {
-            for (int i = 0; i < matches.size(); i++) {
-                Match match = matches.get(i);
-                if (match.homeTeam.equals(homeTeam) && match.awayTeam.equals(awayTeam)) {
-                    if (!match.isActive) {
-                        throw updateInactiveMatchException(homeTeam, awayTeam);
-                    }
-                    Match finishedMatch = match.finish();
-                    matches.set(i, finishedMatch);
-                    summary = calculateSummary(matches);
-                    return finishedMatch;
+            return commit(finish(homeTeam, awayTeam));
+        } finally {
+            unlock(ScoreBoardMetrics.Operation.FINISH_MATCH, start);
+        }
+    }
+
+    /**
+     * Updates the score for the Match with the given sequence number of the update, e.g. of an at-least-once feed
+     * which may redeliver or reorder the updates.
+     *
+     * <p>The update is dropped if the Match has already got an update (or has been finished) with the same
+     * or a higher sequence number: duplicates and late updates never roll the score back.
+     * Dropped updates are detected without the write lock and don't change the Summary,
+     * see {@link #getStaleUpdates()}. The sequence numbers (or source timestamps) must increase per Match,
+     * they are kept in memory only.
+     *
+     * @param sequence the sequence number of the update for the Match
+     * @return true if the update has been applied, false if it has been dropped as stale or duplicate
+     * @throws SportRadarException if the Match not found with the given {@code homeTeam} and {@code awayTeam},
+     *                             or the Match is Not in progress and the update is not stale
+     * @see #updateMatchScore(String, int, String, int)
+     */
+    public boolean updateMatchScore(String homeTeam, int homeTeamScore, String awayTeam, int awayTeamScore,
+                                    long sequence) {
+        validateTeams(homeTeam, awayTeam);
+        validateScore(homeTeamScore, awayTeamScore);
+        if (isStale(homeTeam, awayTeam, sequence)) {
+            return false;
+        }
+
+        long start = lockForWrite();
+        try {
+            // a concurrent update may have got ahead meanwhile
+            if (isStale(homeTeam, awayTeam, sequence) || isArchivedStale(homeTeam, awayTeam, sequence)) {
+                return false;
+            }
+            commit(updateScore(homeTeam, homeTeamScore, awayTeam, awayTeamScore), sequence);
+            return true;
+        } finally {
+            unlock(ScoreBoardMetrics.Operation.UPDATE_SCORE, start);
+        }
+    }
+
+    /**
+     * Finishes the Match with the given sequence number, see {@link #updateMatchScore(String, int, String, int, long)}.
+     * A retry of the finish is dropped, as well as the late updates with the lower sequence numbers.
+     *
+     * @param sequence the sequence number of the finish for the Match
+     * @return true if the Match has been finished, false if the finish has been dropped as stale or duplicate
+     * @throws SportRadarException if the Match not found with the given {@code homeTeam} and {@code awayTeam},
+     *                             or the Match is Not in progress and the finish is not stale
+     */
+    public boolean finishMatch(String homeTeam, String awayTeam, long sequence) {
+        validateTeams(homeTeam, awayTeam);
+        if (isStale(homeTeam, awayTeam, sequence)) {
+            return false;
+        }
+
+        long start = lockForWrite();
+        try {
+            if (isStale(homeTeam, awayTeam, sequence) || isArchivedStale(homeTeam, awayTeam, sequence)) {
+                return false;
+            }
+            commit(finish(homeTeam, awayTeam), sequence);
+            return true;
+        } finally {
+            unlock(ScoreBoardMetrics.Operation.FINISH_MATCH, start);
+        }
+    }
+
+    // the sequence is set before the commit: the finished entry may be moved to the archive by the commit,
+    // and it's rolled back only with the change itself, if the change is not published
+    private void commit(MatchChange change, long sequence) {
+        MatchEntry entry = change.entry();
+        long previousSequence = entry.sequence;
+        long version = snapshot.version;
+        entry.sequence = sequence;
+        try {
+            commit(change);
+        } catch (RuntimeException e) {
+            if (snapshot.version == version) {
+                entry.sequence = previousSequence;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * @return the total number of the sequenced updates dropped as stale or duplicate
+     */
+    public long getStaleUpdates() {
+        return staleUpdates.sum();
+    }
+
+    // lock-free: a volatile read of the last applied sequence of the Match
+    private boolean isStale(String homeTeam, String awayTeam, long sequence) {
+        Map<String, MatchEntry> awayTeams = entriesByTeams.get(homeTeam);
+        MatchEntry entry = awayTeams == null ? null : awayTeams.get(awayTeam);
+        if (entry != null && sequence <= entry.sequence) {
+            staleUpdates.increment();
+            return true;
+        }
+        return false;
+    }
+
+    // the archived matches are finished: only the write lock guards the archive
+    private boolean isArchivedStale(String homeTeam, String awayTeam, long sequence) {
+        long id = archivedId(homeTeam, awayTeam);
+        if (id != NOT_ARCHIVED && sequence <= archive.sequence(id)) {
+            staleUpdates.increment();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Applies all the given commands atomically: either all of them or none.
+     *
+     * <p>The commands are applied in the given order, e.g. a Match may be started and updated in the same batch.
+     * All the changes are made under a single lock acquisition and published as a single new Summary,
+     * so readers never observe a partially applied batch.
+     *
+     * @param commands the commands to apply
+     * @return the resulting Matches in the order of the commands
+     * @throws SportRadarException      if any of the commands can't be applied, nothing is applied then
+     * @throws IllegalArgumentException if any of the commands has invalid teams, nothing is applied then
+     */
+    public List<Match> apply(List<? extends MatchCommand> commands) {
+        for (MatchCommand command : commands) {
+            validate(command);
+        }
+        if (commands.isEmpty()) {
+            return List.of();
+        }
+
+        long start = lockForWrite();
+        try {
+            List<MatchChange> changes = new ArrayList<>(commands.size());
+            try {
+                for (MatchCommand command : commands) {
+                    changes.add(apply(command));
                 }
+            } catch (RuntimeException e) {
+                rollback(changes);
+                throw e;
             }
 
-            throw matchNotFoundException(homeTeam, awayTeam);
+            commit(changes);
+            List<Match> results = new ArrayList<>(changes.size());
+            for (MatchChange change : changes) {
+                results.add(change.current());
+            }
+            return Collections.unmodifiableList(results);
         } finally {
-            writeLock.unlock();
+            unlock(ScoreBoardMetrics.Operation.APPLY, start);
+        }
+    }
+
+    /**
+     * Applies the commands one by one, unlike {@link #apply(List)}: a failed command doesn't affect the others.
+     * All the successful changes are published as a single new Summary.
+     *
+     * @param failures filled with the failure of every command, null if the command succeeded
+     * @return the resulting Match of every command, null if the command failed
+     */
+    Match[] applyEach(List<? extends MatchCommand> commands, RuntimeException[] failures) {
+        Match[] results = new Match[commands.size()];
+        long start = lockForWrite();
+        try {
+            List<MatchChange> changes = new ArrayList<>(commands.size());
+            for (int i = 0; i < commands.size(); i++) {
+                try {
+                    MatchCommand command = commands.get(i);
+                    validate(command);
+                    // a single command fails before any change of the indexes
+                    MatchChange change = apply(command);
+                    changes.add(change);
+                    results[i] = change.current();
+                } catch (RuntimeException e) {
+                    failures[i] = e;
+                }
+            }
+            if (!changes.isEmpty()) {
+                long version = snapshot.version;
+                try {
+                    commit(changes);
+                } catch (RuntimeException e) {
+                    if (snapshot.version != version) {
+                        // the changes are published, only a side effect (a listener, audit, replica) failed
+                        log.warn("Failed to notify of the published changes of version [{}]", snapshot.version, e);
+                    } else {
+                        // the changes are rolled back before the publish: all the applied commands failed
+                        for (int i = 0; i < results.length; i++) {
+                            if (results[i] != null) {
+                                results[i] = null;
+                                failures[i] = e;
+                            }
+                        }
+                    }
+                }
+            }
+            return results;
+        } finally {
+            unlock(ScoreBoardMetrics.Operation.APPLY, start);
+        }
+    }
+
+    // acquires the write lock, returns the start time of the operation if timed
+    private long lockForWrite() {
+        if (readOnly) {
+            throw new UnsupportedOperationException("ScoreBoard is a read-only follower");
+        }
+        if (!timed) {
+            writeLock.lock();
+            return 0;
+        }
+        long start = System.nanoTime();
+        writeLock.lock();
+        metrics.recordLockWait(System.nanoTime() - start);
+        return start;
+    }
+
+    private void unlock(ScoreBoardMetrics.Operation operation, long start) {
+        CompletableFuture<Void> changed = pendingChange;
+        pendingChange = null;
+        writeLock.unlock();
+        // the waiters are woken up outside the lock: there may be lots of them
+        if (changed != null) {
+            changed.complete(null);
+        }
+        if (timed) {
+            metrics.recordWrite(operation, System.nanoTime() - start);
+        }
+    }
+
+    private Match commit(MatchChange change) {
+        commit(List.of(change));
+        return change.current();
+    }
+
+    // applies the command to the indexes, the change stays invisible for readers until the Summary is published
+    private MatchChange apply(MatchCommand command) {
+        if (command instanceof MatchCommand.StartMatch) {
+            return start(command.homeTeam(), command.awayTeam());
+        }
+        if (command instanceof MatchCommand.UpdateScore update) {
+            return updateScore(update.homeTeam(), update.homeTeamScore(), update.awayTeam(), update.awayTeamScore());
+        }
+        return finish(command.homeTeam(), command.awayTeam());
+    }
+
+    private MatchChange start(String homeTeam, String awayTeam) {
+        validateMatchNotRun(homeTeam, awayTeam);
+        MatchKey key = internKey(homeTeam, awayTeam);
+        return insert(key, Match.startMatch(key.homeTeam(), key.awayTeam(), instantSource.instant()));
+    }
+
+    private MatchChange updateScore(String homeTeam, int homeTeamScore, String awayTeam, int awayTeamScore) {
+        MatchEntry entry = findActiveMatch(homeTeam, awayTeam);
+        Match previousMatch = entry.match;
+        Match updatedMatch = previousMatch.updateScore(homeTeamScore, awayTeamScore);
+        summaryIndex.update(entry, updatedMatch);
+        return new MatchChange(entry, previousMatch, updatedMatch);
+    }
+
+    private MatchChange finish(String homeTeam, String awayTeam) {
+        MatchEntry entry = findActiveMatch(homeTeam, awayTeam);
+        Match previousMatch = entry.match;
+        summaryIndex.remove(entry);
+        entry.match = previousMatch.finish();
+        entry.finishedAt = instantSource.instant();
+        finishedMatches.addLast(entry);
+        return new MatchChange(entry, previousMatch, entry.match);
+    }
+
+    // sets the given state of the Match without validation, e.g. the state recovered from the journal.
+    // The finished matches are not queued for eviction, see rebuildFinishedMatches().
+    // Returns null for the removal of the Match missing on the board
+    private MatchChange restore(MatchState state) {
+        Match match = state.match();
+        MatchKey key = internKey(match.homeTeam(), match.awayTeam());
+        MatchEntry entry = matches.get(key.id());
+        if (state.removed()) {
+            if (entry != null) return drop(entry);
+            if (archive != null) archive.remove(key.id());
+            return null;
+        }
+        if (entry == null) {
+            if (archive != null) archive.remove(key.id());
+            MatchChange change = insert(key, match);
+            change.entry().finishedAt = state.finishedAt();
+            return change;
+        }
+
+        Match previousMatch = entry.match;
+        entry.finishedAt = state.finishedAt();
+        if (previousMatch.isActive() && match.isActive()) {
+            summaryIndex.update(entry, match);
+        } else if (previousMatch.isActive()) {
+            summaryIndex.remove(entry);
+            entry.match = match;
+        } else {
+            entry.match = match;
+            if (match.isActive()) summaryIndex.add(entry);
+        }
+        return new MatchChange(entry, previousMatch, match);
+    }
+
+    private MatchChange insert(MatchKey key, Match match) {
+        MatchEntry entry = new MatchEntry(key, startedMatches++, match);
+        matches.put(entry);
+        entriesByTeams.computeIfAbsent(key.homeTeam(), homeTeam -> new ConcurrentHashMap<>()).put(key.awayTeam(), entry);
+        if (match.isActive()) summaryIndex.add(entry);
+        return new MatchChange(entry, null, match);
+    }
+
+    private void remove(MatchEntry entry) {
+        matches.remove(entry.key.id());
+        entriesByTeams.get(entry.key.homeTeam()).remove(entry.key.awayTeam());
+    }
+
+    // makes the applied changes durable (if journaled) and then visible to the readers and subscribers
+    private void commit(List<MatchChange> changes) {
+        commit(changes, snapshot.version + 1);
+    }
+
+    private void commit(List<MatchChange> changes, long version) {
+        if (journal != null) {
+            try {
+                journal.append(version, changes);
+            } catch (IOException e) {
+                rollback(changes);
+                throw new UncheckedIOException("Failed to write the journal, the changes are rolled back", e);
+            }
+        }
+
+        if (archive != null) {
+            archiveFinishedMatches(changes);
+        }
+        evictFinishedMatches();
+        publishSummary(version);
+        if (!replicas.isEmpty()) {
+            sendToReplicas(changes);
+        }
+        summaryViews.apply(changes);
+        if (matchHistory != null) {
+            matchHistory.record(changes, instantSource.instant());
+        }
+        if (changeListener != null) {
+            changeListener.onCommit(changes);
+        }
+        boolean subscribed = events.hasSubscribers();
+        if (subscribed || auditSink != null) {
+            // indexed loop: no iterators on the write path
+            for (int i = 0; i < changes.size(); i++) {
+                MatchEvent event = changes.get(i).toEvent();
+                if (auditSink != null) {
+                    auditSink.audit(snapshot.version, event);
+                }
+                if (subscribed) {
+                    publishEvent(event);
+                }
+            }
+        }
+
+        if (journal != null && journal.isSnapshotDue()) {
+            writeJournalSnapshot();
+        }
+    }
+
+    // moves the matches finished by the changes off the heap, the changes keep the entries for the listeners
+    private void archiveFinishedMatches(List<MatchChange> changes) {
+        for (int i = 0; i < changes.size(); i++) {
+            MatchEntry entry = changes.get(i).entry();
+            if (!entry.match.isActive() && matches.get(entry.key.id()) == entry) {
+                archive.add(entry);
+                remove(entry);
+                finishedMatches.remove(entry);
+            }
+        }
+    }
+
+    private void rollback(List<MatchChange> changes) {
+        for (int i = changes.size() - 1; i >= 0; i--) {
+            rollback(changes.get(i));
+        }
+    }
+
+    // reverts the not published change
+    private void rollback(MatchChange change) {
+        MatchEntry entry = change.entry();
+        if (change.previous() == null) {
+            if (entry.match.isActive()) summaryIndex.remove(entry);
+            remove(entry);
+        } else if (!change.current().isActive()) {
+            finishedMatches.removeLast();
+            entry.finishedAt = null;
+            entry.match = change.previous();
+            summaryIndex.add(entry);
+        } else {
+            summaryIndex.update(entry, change.previous());
         }
     }
 
@@ -169,34 +660,684 @@ public class ScoreBoard {
      * Containerized objects of the List {@link Match} are immutable, meaning
      * the client is supposed to use only public API to interact with the {@code ScoreBoard}.
      *
+     * <p>The call is wait-free: it's a single volatile read of the last published summary, it never
+     * blocks on writers and never delays them.
+     *
      * @return the unmodifiable and ordered list of immutable {@link Match} objects
      */
     public List<Match> getSummary() {
-        readLock.lock();
+        if (timed) {
+            metrics.recordSummaryRead();
+        }
+        return snapshot.summary;
+    }
+
+    /**
+     * Get the top of the Summary: the first {@code n} matches of {@link #getSummary()}.
+     *
+     * <p>The returned list is a view over the published Summary, nothing is copied.
+     *
+     * @param n the maximum number of the matches to return
+     * @return the unmodifiable and ordered list of at most {@code n} matches
+     */
+    public List<Match> getTop(int n) {
+        if (n < 0)
+            throw new IllegalArgumentException("n can't be negative: " + n);
+        List<Match> summary = snapshot.summary;
+        return n >= summary.size() ? summary : summary.subList(0, n);
+    }
+
+    /**
+     * Get the matches in progress of the given team (as the home or the away team) in the Summary order.
+     *
+     * <p>The view of a team is built by the writer on the next change after the first read of the team
+     * and then maintained on changes, so nothing is filtered or copied on the next reads. Till then the reads filter
+     * the published Summary once per Summary. The reads never lock: a team which has never played has no matches.
+     * The view is published right after the Summary: it may lag behind {@link #getSummary()} for the moment
+     * of the change.
+     *
+     * @param team the name of the team
+     * @return the unmodifiable and ordered list of the matches of the team
+     */
+    public List<Match> getMatchesForTeam(String team) {
+        List<Match> matches = summaryViews.team(team);
+        if (matches != null) {
+            return matches;
+        }
+        // a team which has never played gets no view
+        return teamIds.idOf(team) == TeamIds.NOT_FOUND ? List.of() : summaryViews.request(team, snapshot.summary);
+    }
+
+    /**
+     * Get the matches in progress of the named group, see {@link Builder#group(String, Predicate)},
+     * in the Summary order.
+     *
+     * <p>The view of every group is maintained on changes, so nothing is filtered or copied on read.
+     * The view is published right after the Summary: it may lag behind {@link #getSummary()} for the moment
+     * of the change.
+     *
+     * @param group the name of the group
+     * @return the unmodifiable and ordered list of the matches of the group
+     * @throws IllegalArgumentException if the board has no such group
+     */
+    public List<Match> getGroup(String group) {
+        List<Match> matches = summaryViews.group(group);
+        if (matches == null)
+            throw new IllegalArgumentException("ScoreBoard has no group: " + group);
+        return matches;
+    }
+
+    /**
+     * Get the version of the current Summary. The version is increased on every change of the Summary.
+     *
+     * @return the version of the current Summary
+     */
+    public long getVersion() {
+        return snapshot.version;
+    }
+
+    /**
+     * Get the changes of the Summary since the given version, which the client already knows.
+     *
+     * <p>If nothing has been changed, the shared empty changes are returned without any allocation.
+     * Only a limited number of the recent versions are kept to calculate the difference,
+     * if the given version is unknown the changes {@link SummaryChanges#reset() reset} the whole Summary.
+     *
+     * @param version the version of the Summary known to the client, see {@link #getVersion()}
+     * @return the changes which lead from the given version to the current Summary
+     */
+    public SummaryChanges getChangesSince(long version) {
+        Snapshot current = snapshot;
+        if (version == current.version) {
+            return current.noChanges;
+        }
+        Snapshot base = version >= 0 && version < current.version ? history.get((int) (version % HISTORY_SIZE)) : null;
+        if (base == null || base.version != version) {
+            return SummaryChanges.reset(current.version, current.summary);
+        }
+        return current.changesSince(base);
+    }
+
+    /**
+     * Waits for a Summary newer than the given version, e.g. for a long-poll request of a client.
+     *
+     * <p>Returns at once if the given version is not the current one. Otherwise, the caller is parked
+     * until the next Summary is published or the timeout elapses. The waiters don't hold any monitors:
+     * a virtual thread is unmounted from its carrier while waiting, so lots of them may wait at the same time.
+     * All the waiters are woken up by the writer after it releases the write lock.
+     *
+     * @param version the version of the Summary known to the client, see {@link #getVersion()}
+     * @param timeout the maximum time to wait
+     * @return the changes since the given version, {@link SummaryChanges#isEmpty() empty} if the timeout has elapsed
+     * @throws InterruptedException if the caller is interrupted while waiting
+     */
+    public SummaryChanges awaitChange(long version, Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (true) {
+            if (snapshot.version != version) {
+                return getChangesSince(version);
+            }
+
+            CompletableFuture<Void> changed = nextChange.get();
+            if (changed == null) {
+                nextChange.compareAndSet(null, new CompletableFuture<>());
+                continue;
+            }
+            // the writer publishes the snapshot before it takes the future: re-check after the future is known
+            if (snapshot.version != version) {
+                continue;
+            }
+
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return getChangesSince(version);
+            }
+            try {
+                changed.get(remaining, TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                return getChangesSince(version);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Change notification can't fail", e);
+            }
+        }
+    }
+
+    /**
+     * Get the Summary encoded by the configured {@link SummaryEncoder}, e.g. to be written to the network as is.
+     *
+     * <p>The Summary is encoded once per change by the writer, so reads don't serialize anything.
+     * The returned buffer is an independent read-only view (own position and limit) over the shared bytes,
+     * nothing is copied.
+     *
+     * <p>The bytes are on the heap: a channel write copies them into the cached direct buffer of the writing thread.
+     * A caller which writes the same version to many connections may copy them to a direct buffer once per version.
+     *
+     * @return the read-only buffer with the encoded Summary of {@link #getVersion()}
+     * @throws IllegalStateException if the {@code ScoreBoard} has been built without a {@link SummaryEncoder}
+     */
+    public ByteBuffer getSummaryPayload() {
+        ByteBuffer payload = snapshot.payload;
+        if (payload == null)
+            throw new IllegalStateException("ScoreBoard is built without SummaryEncoder");
+        return payload.duplicate();
+    }
+
+    /**
+     * Get the Summary as it has been at the given time, e.g. to replay the last minutes of the matches.
+     *
+     * <p>Available only with the history, see {@link Builder#history()}. The cost doesn't depend on the total number
+     * of the recorded changes: the Summary is rebuilt from the closest checkpoint of the history.
+     *
+     * @param at the point in time
+     * @return the unmodifiable list of the matches in progress at the given time in the Summary order,
+     * empty if the time is before the first recorded change
+     * @throws IllegalStateException if the history is not recorded
+     */
+    public List<Match> getSummaryAt(Instant at) {
+        Objects.requireNonNull(at);
+        return history().summaryAt(at);
+    }
+
+    /**
+     * Get the timestamped changes of the matches of the given teams: the start, every change of the score and the finish.
+     * If the teams have played several matches (the finished one has been evicted), the timeline has all of them.
+     *
+     * <p>Available only with the history, see {@link Builder#history()}.
+     *
+     * @return the unmodifiable list of the changes in the order they have been applied, empty if the teams never played
+     * @throws IllegalStateException if the history is not recorded
+     */
+    public List<TimelineEntry> getTimeline(String homeTeam, String awayTeam) {
+        validateTeams(homeTeam, awayTeam);
+        return history().timeline(homeTeam, awayTeam);
+    }
+
+    private MatchHistory history() {
+        if (matchHistory == null)
+            throw new IllegalStateException("The history is not recorded, see ScoreBoard.Builder#history()");
+        return matchHistory;
+    }
+
+    /**
+     * Get the finished matches, which are still kept by the {@link RetentionPolicy} of the board,
+     * e.g. to show the result of a Match some time longer after the finish.
+     *
+     * <p>Available only with a bounded {@link RetentionPolicy} (limited by time or number of matches),
+     * the list is empty for the default policy, which keeps all the finished matches forever.
+     * The expired matches are evicted on the next change of the board.
+     *
+     * <p>With the off-heap archive (see {@link Builder#offHeapArchive()}) the list is decoded from the archive
+     * by its first read on the reader thread, once per published Summary, instead of on every change.
+     *
+     * @return the unmodifiable list of the finished matches, the most recently finished first
+     */
+    public List<Match> getRecentlyFinished() {
+        return snapshot.recentlyFinished;
+    }
+
+    private void publishSummary(long version) {
+        long start = timed ? System.nanoTime() : 0;
+        Snapshot published = new Snapshot(version, summaryIndex.toList(), recentlyFinished(), summaryEncoder);
+        history.set((int) (published.version % HISTORY_SIZE), published);
+        snapshot = published;
+        // a plain volatile read while nobody waits
+        if (nextChange.get() != null) {
+            pendingChange = nextChange.getAndSet(null);
+        }
+        if (timed) {
+            metrics.recordSummaryPublish(System.nanoTime() - start, summaryIndex.size());
+        }
+    }
+
+
+    /**
+     * Subscribes to the changes of the Matches: {@link MatchEvent.MatchStarted}, {@link MatchEvent.ScoreUpdated}
+     * and {@link MatchEvent.MatchFinished} are pushed in the order of changes on the board.
+     *
+     * <p>Events are delivered asynchronously, a slow subscriber never stalls the writers:
+     * each subscriber has a bounded buffer ({@link Flow#defaultBufferSize()}) and the events
+     * which don't fit into the buffer of the subscriber are dropped for this subscriber only
+     * (see {@link #getDroppedEvents()}). A subscriber which needs a consistent state after falling behind
+     * is supposed to re-read the {@link #getSummary() Summary}.
+     *
+     * @param subscriber the subscriber of the changes
+     */
+    @Override
+    public void subscribe(Flow.Subscriber<? super MatchEvent> subscriber) {
+        events.subscribe(subscriber);
+    }
+
+    /**
+     * Starts to replicate the board to a follower, e.g. a {@link ScoreBoardFollower} in another process
+     * connected by a {@link ReplicationTransport}: the whole state of the board is handed to the sink at once,
+     * then the changes of every new Summary version.
+     *
+     * @param replica the connection of the follower
+     */
+    public void addReplica(ReplicationSink replica) {
+        Objects.requireNonNull(replica);
+        writeLock.lock();
+        try {
+            // under the lock: no version is missed or sent twice between the state and the changes
+            replica.resync(stateFrame());
+            replicas.add(replica);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Stops to replicate the board to the follower.
+     */
+    public void removeReplica(ReplicationSink replica) {
+        replicas.remove(replica);
+    }
+
+    Instant now() {
+        return instantSource.instant();
+    }
+
+    private ByteBuffer stateFrame() {
+        return ReplicationFrames.encode(true, instantSource.instant(), boardState());
+    }
+
+    private void sendToReplicas(List<MatchChange> changes) {
+        List<MatchState> changed = new ArrayList<>(changes.size());
+        for (int i = 0; i < changes.size(); i++) {
+            MatchEntry entry = changes.get(i).entry();
+            changed.add(new MatchState(entry.match, entry.finishedAt, entry.removed));
+        }
+        ByteBuffer frame = ReplicationFrames.encode(false, instantSource.instant(),
+                new BoardState(snapshot.version, changed));
+        ByteBuffer state = null;
+        for (ReplicationSink replica : replicas) {
+            if (!replica.offer(frame)) {
+                if (state == null) state = stateFrame();
+                replica.resync(state);
+            }
+        }
+    }
+
+    /**
+     * Applies the replicated state or changes of the leader as the given Summary version, see {@link ScoreBoardFollower}.
+     *
+     * @param reset true if the state is the whole state of the leader: the matches missing in it are removed
+     */
+    void replicate(BoardState state, boolean reset) {
+        long start = timed ? System.nanoTime() : 0;
+        writeLock.lock();
+        try {
+            load(state, reset, state.version());
+        } finally {
+            unlock(ScoreBoardMetrics.Operation.REPLICATE, start);
+        }
+    }
+
+    /**
+     * Writes the whole state of the board (the matches in progress and the finished ones still kept, see
+     * {@link RetentionPolicy}) to the channel as a compact binary snapshot, e.g. to warm up a new node.
+     * The state is taken atomically, the writers wait only for it to be encoded, not for the channel.
+     *
+     * @param channel the channel to write to, e.g. a {@link FileChannel} or a socket, not closed
+     * @throws IOException if the channel fails
+     * @see #importSnapshot(ReadableByteChannel)
+     */
+    public void exportSnapshot(WritableByteChannel channel) throws IOException {
+        ByteBuffer encoded;
+        writeLock.lock();
         try {
-            return summary;
+            encoded = BoardStateCodec.encode(boardState());
         } finally {
-            readLock.lock();
+            writeLock.unlock();
+        }
+        while (encoded.hasRemaining()) {
+            channel.write(encoded);
+        }
+    }
+
+    /**
+     * Replaces the whole state of the board with the snapshot exported by {@link #exportSnapshot(WritableByteChannel)}.
+     *
+     * <p>The snapshot is loaded atomically and published as a single new Summary: readers observe either
+     * the previous state or the imported one. The version of the Summary is the version of the exported board
+     * (unless this board is already ahead), so the clients of the exported board may keep their known versions.
+     * An empty board is bulk loaded: the matches are indexed at once, not one by one.
+     *
+     * @param channel the channel to read the snapshot from till its end, not closed
+     * @throws IOException if the channel fails or the snapshot is malformed, the board isn't changed then
+     */
+    public void importSnapshot(ReadableByteChannel channel) throws IOException {
+        BoardState state = BoardStateCodec.decode(readFully(channel));
+
+        long start = lockForWrite();
+        try {
+            load(state, true, Math.max(state.version(), snapshot.version + 1));
+        } finally {
+            unlock(ScoreBoardMetrics.Operation.IMPORT_SNAPSHOT, start);
         }
     }
 
-    private List<Match> calculateSummary(List<Match> matches) {
-        return matches.stream()
-                .filter(Match::isActive)
-                .sorted(Comparator.<Match>comparingInt(match -> match.homeTeamScore + match.awayTeamScore).reversed()
-                        .thenComparing(Comparator.<Match, Instant>comparing(o -> o.startedAt).reversed()))
+    private static ByteBuffer readFully(ReadableByteChannel channel) throws IOException {
+        int expected = channel instanceof FileChannel file
+                ? (int) Math.min(file.size() - file.position() + 1, Integer.MAX_VALUE - 8)
+                : 64 * 1024;
+        ByteBuffer buffer = ByteBuffer.allocate(Math.max(expected, 1));
+        while (channel.read(buffer) >= 0) {
+            if (!buffer.hasRemaining()) {
+                buffer = ByteBuffer.allocate(buffer.capacity() * 2).put(buffer.flip());
+            }
+        }
+        return buffer.flip();
+    }
+
+    // applies the given state as the given Summary version
+    // @param reset true if the state is the whole state: the matches missing in it are removed
+    private void load(BoardState state, boolean reset, long version) {
+        if (reset && matches.size() == 0 && (archive == null || archive.size() == 0)) {
+            commit(bulkLoad(state), version);
+            return;
+        }
+
+        List<MatchChange> changes = new ArrayList<>(state.matches().size());
+        if (reset) {
+            Set<MatchKey> keys = new HashSet<>();
+            for (MatchState match : state.matches()) {
+                if (!match.removed()) keys.add(MatchKey.of(match.match()));
+            }
+            if (archive != null) {
+                for (MatchEntry entry : archive.entries()) {
+                    if (!keys.contains(entry.key)) {
+                        entry.removed = true;
+                        changes.add(new MatchChange(entry, entry.match, entry.match));
+                    }
+                }
+                // the archived matches of the state are restored again
+                archive.clear();
+            }
+            for (MatchEntry entry : matches.values()) {
+                if (!keys.contains(entry.key)) {
+                    changes.add(drop(entry));
+                }
+            }
+        }
+        for (MatchState match : state.matches()) {
+            MatchChange change = restore(match);
+            if (change == null) {
+                continue;
+            }
+            if (!reset) {
+                boolean wasActive = change.previous() == null || change.previous().isActive();
+                if (change.entry().removed) {
+                    if (!wasActive) finishedMatches.remove(change.entry());
+                } else if (wasActive && !change.current().isActive()) {
+                    finishedMatches.addLast(change.entry());
+                } else if (!wasActive && change.current().isActive()) {
+                    // the Match has been evicted and started again on the leader
+                    finishedMatches.remove(change.entry());
+                }
+            }
+            changes.add(change);
+        }
+        if (reset) {
+            rebuildFinishedMatches();
+        }
+        commit(changes, version);
+    }
+
+    // loads the state into the empty board: the active matches are indexed by a single sort
+    private List<MatchChange> bulkLoad(BoardState state) {
+        List<MatchChange> changes = new ArrayList<>(state.matches().size());
+        List<MatchEntry> active = new ArrayList<>();
+        for (MatchState matchState : state.matches()) {
+            Match match = matchState.match();
+            MatchKey key = internKey(match.homeTeam(), match.awayTeam());
+            MatchEntry entry = new MatchEntry(key, startedMatches++, match);
+            entry.finishedAt = matchState.finishedAt();
+            matches.put(entry);
+            entriesByTeams.computeIfAbsent(key.homeTeam(), homeTeam -> new ConcurrentHashMap<>()).put(key.awayTeam(), entry);
+            if (match.isActive()) active.add(entry);
+            changes.add(new MatchChange(entry, null, match));
+        }
+        summaryIndex.addAll(active);
+        rebuildFinishedMatches();
+        return changes;
+    }
+
+    // removes the Match from the board: the listeners see it finished, the journal and the replicas see it removed,
+    // so neither the recovery nor the followers bring it back
+    private MatchChange drop(MatchEntry entry) {
+        Match previousMatch = entry.match;
+        if (previousMatch.isActive()) {
+            summaryIndex.remove(entry);
+            entry.match = previousMatch.finish();
+        }
+        entry.removed = true;
+        remove(entry);
+        return new MatchChange(entry, previousMatch, entry.match);
+    }
+
+    /**
+     * @return the total number of events dropped because of the full buffers of the slow subscribers
+     */
+    public long getDroppedEvents() {
+        return droppedEvents.sum();
+    }
+
+    private static Journal openJournal(JournalSettings settings) {
+        try {
+            return Journal.open(settings);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open the journal in " + settings.directory(), e);
+        }
+    }
+
+    // rebuilds the board from the journal, returns the recovered version of the Summary
+    private long recover(Journal journal) {
+        try {
+            Journal.Recovery recovery = journal.recover();
+            for (MatchState match : recovery.snapshot().matches()) {
+                restore(match);
+            }
+            long version = recovery.snapshot().version();
+            for (BoardState frame : recovery.frames()) {
+                for (MatchState match : frame.matches()) {
+                    restore(match);
+                }
+                version = frame.version();
+            }
+            rebuildFinishedMatches();
+            evictFinishedMatches();
+            log.info("Recovered [{}] matches of version [{}] from the journal", matches.size(), version);
+            return version;
+        } catch (IOException e) {
+            closeQuietly(journal, e);
+            throw new UncheckedIOException("Failed to recover from the journal", e);
+        }
+    }
+
+    // the whole state of the board in the order of start
+    private BoardState boardState() {
+        List<MatchEntry> entries = matches.values();
+        if (archive != null) {
+            entries.addAll(archive.entries());
+        }
+        List<MatchState> state = entries.stream()
+                .sorted(Comparator.comparingLong(entry -> entry.seq))
+                .map(entry -> new MatchState(entry.match, entry.finishedAt))
                 .toList();
+        return new BoardState(snapshot.version, state);
+    }
+
+    private void writeJournalSnapshot() {
+        try {
+            journal.writeSnapshot(boardState());
+        } catch (IOException e) {
+            // the journal still has all the changes, the snapshot is retried after a backoff, see Journal
+            log.warn("Failed to write the snapshot of the journal", e);
+        }
     }
 
+    // the active matches as if they have been just started, e.g. to build the views after recovery
+    private List<MatchChange> activeMatches() {
+        List<MatchChange> active = new ArrayList<>(summaryIndex.size());
+        for (MatchEntry entry : matches.values()) {
+            if (entry.match.isActive()) {
+                active.add(new MatchChange(entry, null, entry.match));
+            }
+        }
+        return active;
+    }
 
-    private void validateMatchNotRun(String homeTeam, String awayTeam) {
-        for (Match match : matches) {
-            if (match.homeTeam.equals(homeTeam) && match.awayTeam.equals(awayTeam)) {
-                throw matchAlreadyRunException(homeTeam, awayTeam);
+    private void rebuildFinishedMatches() {
+        finishedMatches.clear();
+        matches.values().stream()
+                .filter(entry -> !entry.match.isActive())
+                .sorted(Comparator.comparing(entry -> entry.finishedAt))
+                .forEach(finishedMatches::addLast);
+        if (archive != null) {
+            for (MatchEntry entry : finishedMatches.entries()) {
+                archive.add(entry);
+                remove(entry);
             }
+            finishedMatches.clear();
         }
     }
 
+    // O(1) amortized: only the expired matches at the head of the queue are touched
+    private void evictFinishedMatches() {
+        if (archive != null) {
+            evictArchivedMatches();
+            return;
+        }
+        if (!retentionPolicy.isBounded() || finishedMatches.isEmpty()) {
+            return;
+        }
+        Instant now = retentionPolicy.gracePeriod() == null ? null : instantSource.instant();
+        MatchEntry earliest;
+        while ((earliest = finishedMatches.first()) != null
+                && retentionPolicy.isExpired(earliest.finishedAt, now, finishedMatches.size())) {
+            finishedMatches.removeFirst();
+            remove(earliest);
+        }
+    }
+
+    private void evictArchivedMatches() {
+        if (!retentionPolicy.isBounded() || archive.size() == 0) {
+            return;
+        }
+        Instant now = retentionPolicy.gracePeriod() == null ? null : instantSource.instant();
+        Instant earliest;
+        while ((earliest = archive.earliestFinishedAt()) != null
+                && retentionPolicy.isExpired(earliest, now, archive.size())) {
+            archive.removeEarliest();
+        }
+    }
+
+    private List<Match> recentlyFinished() {
+        // O(1): a view over the matches kept in the order of finish, the archived ones are decoded by the first read
+        if (!retentionPolicy.isBounded()) {
+            return List.of();
+        }
+        return archive == null ? finishedMatches.published() : archive.recent();
+    }
+
+    private static void closeQuietly(Journal journal, Exception cause) {
+        try {
+            journal.close();
+        } catch (IOException e) {
+            cause.addSuppressed(e);
+        }
+    }
+
+    /**
+     * Closes the journal and the audit sink (if any) and completes the subscriptions to the change events.
+     */
+    @Override
+    public void close() {
+        writeLock.lock();
+        try {
+            events.close();
+            if (auditSink != null) {
+                auditSink.close();
+            }
+            if (journal != null) {
+                journal.close();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to close the journal", e);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void publishEvent(MatchEvent event) {
+        events.offer(event, (subscriber, dropped) -> {
+            droppedEvents.increment();
+            log.debug("Event dropped for the slow subscriber: {}", dropped);
+            return false;
+        });
+    }
+
+    private void validate(MatchCommand command) {
+        validateTeams(command.homeTeam(), command.awayTeam());
+        if (command instanceof MatchCommand.UpdateScore update) {
+            validateScore(update.homeTeamScore(), update.awayTeamScore());
+        }
+    }
+
+    private void validateMatchNotRun(String homeTeam, String awayTeam) {
+        if (findMatch(homeTeam, awayTeam) != null || archivedId(homeTeam, awayTeam) != NOT_ARCHIVED) {
+            throw matchAlreadyRunException(homeTeam, awayTeam);
+        }
+    }
+
+    private MatchEntry findActiveMatch(String homeTeam, String awayTeam) {
+        MatchEntry entry = findMatch(homeTeam, awayTeam);
+        if (entry == null && archivedId(homeTeam, awayTeam) != NOT_ARCHIVED) {
+            throw updateInactiveMatchException(homeTeam, awayTeam);
+        }
+        if (entry == null) {
+            throw matchNotFoundException(homeTeam, awayTeam);
+        }
+        if (!entry.match.isActive) {
+            throw updateInactiveMatchException(homeTeam, awayTeam);
+        }
+        return entry;
+    }
+
+    // allocation-free lookup: the teams never played on the board have no matches
+    private MatchEntry findMatch(String homeTeam, String awayTeam) {
+        int homeId = teamIds.idOf(homeTeam);
+        int awayId = teamIds.idOf(awayTeam);
+        if (homeId == TeamIds.NOT_FOUND || awayId == TeamIds.NOT_FOUND) {
+            return null;
+        }
+        return matches.get(MatchKey.id(homeId, awayId));
+    }
+
+    private static final long NOT_ARCHIVED = -1;
+
+    // the id of the archived Match of the teams, NOT_ARCHIVED if none
+    private long archivedId(String homeTeam, String awayTeam) {
+        if (archive == null) {
+            return NOT_ARCHIVED;
+        }
+        int homeId = teamIds.idOf(homeTeam);
+        int awayId = teamIds.idOf(awayTeam);
+        if (homeId == TeamIds.NOT_FOUND || awayId == TeamIds.NOT_FOUND) {
+            return NOT_ARCHIVED;
+        }
+        long id = MatchKey.id(homeId, awayId);
+        return archive.contains(id) ? id : NOT_ARCHIVED;
+    }
+
+    // the key of the canonical (interned) team names
+    private MatchKey internKey(String homeTeam, String awayTeam) {
+        int homeId = teamIds.intern(homeTeam);
+        int awayId = teamIds.intern(awayTeam);
+        return new MatchKey(teamIds.name(homeId), homeId, teamIds.name(awayId), awayId);
+    }
+
 
     public void validateScore(int homeTeamScore, int awayTeamScore) {
         if (homeTeamScore < 0 || awayTeamScore < 0)
@@ -210,8 +1351,158 @@ public class ScoreBoard {
                     .formatted(homeTeam, awayTeam));
         if (homeTeam.equals(awayTeam))
             throw new IllegalArgumentException("homeTeam can't be equal awayTeam: " + homeTeam);
+        if (isTooLong(homeTeam) || isTooLong(awayTeam))
+            throw new IllegalArgumentException("Team name can't be longer than %d UTF-8 bytes".formatted(MAX_TEAM_NAME_BYTES));
+    }
+
+    // the names are encoded with an unsigned short length: the payload, the journal and the snapshots.
+    // Allocation-free for the names of up to MAX_TEAM_NAME_BYTES / 3 chars: a char takes up to 3 UTF-8 bytes
+    private static boolean isTooLong(String team) {
+        return team.length() > MAX_TEAM_NAME_BYTES / 3 && team.getBytes(StandardCharsets.UTF_8).length > MAX_TEAM_NAME_BYTES;
+    }
+
+    /**
+     * Builder of the {@link ScoreBoard} with the optional features. All features are turned off by default.
+     */
+    public static class Builder {
+
+        private InstantSource instantSource = InstantSource.system();
+        private SummaryEncoder summaryEncoder;
+        private JournalSettings journalSettings;
+        private RetentionPolicy retentionPolicy = RetentionPolicy.keepAll();
+        private ChangeListener changeListener;
+        private AuditSink auditSink;
+        private boolean readOnly;
+        private boolean offHeapArchive;
+        private boolean history;
+        private boolean fairWriteLock;
+        private ScoreBoardMetrics metrics = ScoreBoardMetrics.noop();
+        private final Map<String, Predicate<Match>> groups = new LinkedHashMap<>();
+
+        private Builder() {
+        }
+
+        /**
+         * @param instantSource the source of the time of the Matches, the system clock by default
+         */
+        public Builder instantSource(InstantSource instantSource) {
+            this.instantSource = Objects.requireNonNull(instantSource);
+            return this;
+        }
+
+        /**
+         * @param summaryEncoder the encoder of the Summary payload, see {@link ScoreBoard#getSummaryPayload()}
+         */
+        public Builder summaryEncoder(SummaryEncoder summaryEncoder) {
+            this.summaryEncoder = Objects.requireNonNull(summaryEncoder);
+            return this;
+        }
+
+        /**
+         * Makes the board durable: all the changes are written to the journal before they are published,
+         * the board is recovered from the journal on build.
+         *
+         * @param journalSettings the settings of the journal
+         */
+        public Builder journal(JournalSettings journalSettings) {
+            this.journalSettings = Objects.requireNonNull(journalSettings);
+            return this;
+        }
+
+        /**
+         * @param retentionPolicy how long to keep the finished matches, {@link RetentionPolicy#keepAll()} by default
+         */
+        public Builder retentionPolicy(RetentionPolicy retentionPolicy) {
+            this.retentionPolicy = Objects.requireNonNull(retentionPolicy);
+            return this;
+        }
+
+        /**
+         * Adds the named group of matches, e.g. a group of the group stage or the matches of a region.
+         * The matches of the group are maintained on changes, see {@link ScoreBoard#getGroup(String)}.
+         *
+         * @param name   the name of the group
+         * @param filter the filter of the matches of the group, evaluated by the writer on every change of a Match
+         */
+        public Builder group(String name, Predicate<Match> filter) {
+            Objects.requireNonNull(filter);
+            if (name == null || name.isBlank())
+                throw new IllegalArgumentException("Group name can't be Blank or null: " + name);
+            if (groups.putIfAbsent(name, filter) != null)
+                throw new IllegalArgumentException("Group already exists: " + name);
+            return this;
+        }
+
+        /**
+         * Sets the audit trail of the changes, e.g. {@link FileAuditSink}. The changes are not audited by default.
+         * The sink is closed with the board.
+         */
+        public Builder auditSink(AuditSink auditSink) {
+            this.auditSink = Objects.requireNonNull(auditSink);
+            return this;
+        }
+
+        /**
+         * Sets the instrumentation of the board, e.g. {@link RecordingMetrics}. No-op by default.
+         */
+        public Builder metrics(ScoreBoardMetrics metrics) {
+            this.metrics = Objects.requireNonNull(metrics);
+            return this;
+        }
+
+        /**
+         * Moves the finished matches off the heap: for the boards which keep millions of finished matches,
+         * e.g. historical loads and simulations. A finished Match is a fixed-width record in direct memory
+         * (team ids, scores, epoch millis) and is materialized as {@link Match} only when it's read,
+         * e.g. by {@link ScoreBoard#getRecentlyFinished()}. The times of the finished matches are kept
+         * with millisecond precision. The matches in progress stay on the heap, the Summary is the same.
+         */
+        public Builder offHeapArchive() {
+            this.offHeapArchive = true;
+            return this;
+        }
+
+        /**
+         * Records the history of the changes in memory: the timestamped changes of every Match
+         * (see {@link ScoreBoard#getTimeline(String, String)}) and the Summary at any point in time
+         * (see {@link ScoreBoard#getSummaryAt(Instant)}). The history is append-only and isn't journaled:
+         * it covers the changes since the board has been built.
+         */
+        public Builder history() {
+            this.history = true;
+            return this;
+        }
+
+        /**
+         * Makes the writers take the write lock in the order of arrival. The default (barging) lock gives more
+         * write throughput to many concurrent writers, the fair one gives a lower tail latency of the writes
+         * as a writer never waits for the writers arrived after it. The readers never take the lock either way.
+         * To take the writers off the lock completely see {@link ScoreBoardWriter}.
+         */
+        public Builder fairWriteLock() {
+            this.fairWriteLock = true;
+            return this;
+        }
+
+        Builder readOnly() {
+            this.readOnly = true;
+            return this;
+        }
+
+        Builder changeListener(ChangeListener changeListener) {
+            this.changeListener = changeListener;
+            return this;
+        }
+
+        /**
+         * @throws UncheckedIOException if the journal can't be opened or recovered
+         */
+        public ScoreBoard build() {
+            return new ScoreBoard(this);
+        }
     }
 
+
     /**
      * Immutable representation of the Match with participants {@code homeTeam} & {@code awayTeam},
      * match score and metadata.
@@ -0,0 +1,104 @@
+package org.sportradar;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.sportradar.ReplicationFrames.Frame;
+import org.sportradar.ScoreBoard.Match;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Read-only replica of a leading {@link ScoreBoard}, e.g. in another process, to scale the reads horizontally.
+ *
+ * <p>The follower applies the change log of the leader received by a {@link ReplicationTransport}
+ * to its own read-only {@code ScoreBoard}: the same Summary with the same versions, so all the reads
+ * ({@link ScoreBoard#getSummary()}, {@link ScoreBoard#getChangesSince(long)}, {@link ScoreBoard#awaitChange},
+ * views, payload, events) keep their contracts. The writes of the follower's board throw
+ * {@link UnsupportedOperationException}.
+ *
+ * <pre>{@code
+ * leaderTransport.publish(leader);
+ * ScoreBoardFollower follower = new ScoreBoardFollower();
+ * followerTransport.subscribe(follower);
+ * follower.getSummary();
+ * }</pre>
+ */
+public class ScoreBoardFollower implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ScoreBoardFollower.class);
+
+    private final ScoreBoard scoreBoard;
+    private volatile Duration replicationLag = Duration.ZERO;
+
+    public ScoreBoardFollower() {
+        this(ScoreBoard.builder());
+    }
+
+    /**
+     * @param builder the read features of the follower's board, e.g. groups, summary encoder, retention policy
+     */
+    public ScoreBoardFollower(ScoreBoard.Builder builder) {
+        this.scoreBoard = builder.readOnly().build();
+    }
+
+    /**
+     * Applies the next replication frame of the leader, called by the {@link ReplicationTransport}
+     * in the order of the frames sent to the {@link ReplicationSink} of the follower.
+     *
+     * @throws IOException if the frame is corrupted
+     */
+    public void accept(ByteBuffer frame) throws IOException {
+        Frame decoded = ReplicationFrames.decode(frame);
+        long version = decoded.state().version();
+        long knownVersion = scoreBoard.getVersion();
+        if (!decoded.reset()) {
+            if (version <= knownVersion) {
+                return;
+            }
+            if (version != knownVersion + 1) {
+                log.warn("Replication gap: version [{}] follows [{}]", version, knownVersion);
+            }
+        }
+        scoreBoard.replicate(decoded.state(), decoded.reset());
+        replicationLag = Duration.between(decoded.publishedAt(), scoreBoard.now());
+    }
+
+    /**
+     * @return the read-only board with the replicated Summary
+     */
+    public ScoreBoard scoreBoard() {
+        return scoreBoard;
+    }
+
+    /**
+     * @see ScoreBoard#getSummary()
+     */
+    public List<Match> getSummary() {
+        return scoreBoard.getSummary();
+    }
+
+    /**
+     * @return the version of the leader's Summary replicated by the follower
+     */
+    public long getVersion() {
+        return scoreBoard.getVersion();
+    }
+
+    /**
+     * The time from the publication of the last applied Summary on the leader to its publication on the follower.
+     * Across the hosts it includes the skew of their clocks.
+     *
+     * @return the replication lag of the last applied frame
+     */
+    public Duration getReplicationLag() {
+        return replicationLag;
+    }
+
+    @Override
+    public void close() {
+        scoreBoard.close();
+    }
+}
@@ -0,0 +1,66 @@
+package org.sportradar;
+
+/**
+ * Instrumentation hook of the {@link ScoreBoard}, see {@link ScoreBoard.Builder#metrics(ScoreBoardMetrics)}.
+ * <p>
+ * Write measurements are reported by the writer, mostly under the write lock: implementations must be cheap
+ * and never block, e.g. increment counters and histogram buckets only.
+ * Reads of the Summary are wait-free, so they are counted but not timed: a clock read costs more than the read itself.
+ * <p>
+ * All methods do nothing by default. The board doesn't read the clock at all with the {@link #noop()} metrics:
+ * the default of the {@code ScoreBoard}.
+ *
+ * @see RecordingMetrics
+ */
+public interface ScoreBoardMetrics {
+
+    enum Operation {
+        START_MATCH, UPDATE_SCORE, FINISH_MATCH, APPLY, REPLICATE, IMPORT_SNAPSHOT
+    }
+
+    /**
+     * @return the metrics which record nothing
+     */
+    static ScoreBoardMetrics noop() {
+        return NoopMetrics.INSTANCE;
+    }
+
+    /**
+     * A write operation is completed, successfully or not.
+     *
+     * @param nanos the latency of the operation including the wait for the write lock
+     */
+    default void recordWrite(Operation operation, long nanos) {
+    }
+
+    /**
+     * A writer has acquired the write lock.
+     *
+     * @param nanos the time the writer waited for the lock
+     */
+    default void recordLockWait(long nanos) {
+    }
+
+    /**
+     * A new Summary is published.
+     *
+     * @param nanos       the time to build and publish the Summary
+     * @param liveMatches the number of the matches in progress in the published Summary
+     */
+    default void recordSummaryPublish(long nanos, int liveMatches) {
+    }
+
+    /**
+     * The Summary is read by {@link ScoreBoard#getSummary()}.
+     */
+    default void recordSummaryRead() {
+    }
+}
+
+final class NoopMetrics implements ScoreBoardMetrics {
+
+    static final NoopMetrics INSTANCE = new NoopMetrics();
+
+    private NoopMetrics() {
+    }
+}
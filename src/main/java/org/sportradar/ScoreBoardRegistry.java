@@ -0,0 +1,131 @@
+package org.sportradar;
+
+import org.sportradar.ScoreBoard.Match;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Function;
+
+/**
+ * The registry of the {@link ScoreBoard}s of many competitions running at the same time
+ * (league days, youth tournaments, friendlies) with the global view over all of them.
+ *
+ * <p>Every competition is a shard: a separate {@code ScoreBoard} with its own write lock and Summary,
+ * so the writers of different competitions never contend with each other.
+ *
+ * <p>The global ranking of the active matches of all the competitions is maintained incrementally by the writers
+ * in a lock-free sorted set: a change of a Match moves only this Match in the ranking,
+ * a read of the top N matches touches only N matches.
+ *
+ * @author Kiryl Drabysheuski
+ */
+public class ScoreBoardRegistry implements AutoCloseable {
+
+    // the Summary order, then the competition and the teams to be unique among all the competitions
+    private static final Comparator<RankedMatch> RANKING_ORDER = Comparator
+            .<RankedMatch>comparingInt(ranked -> ranked.match.homeTeamScore() + ranked.match.awayTeamScore()).reversed()
+            .thenComparing(Comparator.<RankedMatch, Instant>comparing(ranked -> ranked.match.startedAt()).reversed())
+            .thenComparing(RankedMatch::competition)
+            .thenComparing(ranked -> ranked.match.homeTeam())
+            .thenComparing(ranked -> ranked.match.awayTeam());
+
+    private final ConcurrentMap<String, ScoreBoard> competitions = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListSet<RankedMatch> ranking = new ConcurrentSkipListSet<>(RANKING_ORDER);
+    private final Function<String, ScoreBoard.Builder> boardBuilder;
+
+    public ScoreBoardRegistry() {
+        this(competition -> ScoreBoard.builder());
+    }
+
+    /**
+     * @param boardBuilder the builder of the {@code ScoreBoard} of the given competition, e.g. to journal
+     *                     every competition into its own directory
+     */
+    public ScoreBoardRegistry(Function<String, ScoreBoard.Builder> boardBuilder) {
+        this.boardBuilder = Objects.requireNonNull(boardBuilder);
+    }
+
+    /**
+     * Get the {@code ScoreBoard} of the competition, the board is created on the first access.
+     *
+     * @param competition the name of the competition
+     * @return the {@code ScoreBoard} of the competition
+     */
+    public ScoreBoard competition(String competition) {
+        if (competition == null || competition.isBlank())
+            throw new IllegalArgumentException("competition can't be Blank or null: " + competition);
+        return competitions.computeIfAbsent(competition, this::createBoard);
+    }
+
+    /**
+     * @return the names of the competitions of the registry
+     */
+    public Set<String> getCompetitions() {
+        return Set.copyOf(competitions.keySet());
+    }
+
+    /**
+     * Get the top N active matches of all the competitions in the Summary order.
+     *
+     * <p>The ranking is weakly consistent: a Match which is being changed at the moment of the read
+     * may be missing. The Summary of a single competition is always consistent.
+     *
+     * @param n the maximum number of the matches to return
+     * @return the unmodifiable list of the top matches with their competitions
+     */
+    public List<RankedMatch> getTop(int n) {
+        if (n < 0)
+            throw new IllegalArgumentException("n can't be negative: " + n);
+        List<RankedMatch> top = new ArrayList<>(Math.min(n, 64));
+        Iterator<RankedMatch> iterator = ranking.iterator();
+        while (top.size() < n && iterator.hasNext()) {
+            top.add(iterator.next());
+        }
+        return List.copyOf(top);
+    }
+
+    /**
+     * Closes the {@code ScoreBoard}s of all the competitions.
+     */
+    @Override
+    public void close() {
+        competitions.values().forEach(ScoreBoard::close);
+    }
+
+    private ScoreBoard createBoard(String competition) {
+        ScoreBoard scoreBoard = boardBuilder.apply(competition)
+                .changeListener(changes -> rank(competition, changes))
+                .build();
+        // the board may have been recovered from a journal
+        for (Match match : scoreBoard.getSummary()) {
+            ranking.add(new RankedMatch(competition, match));
+        }
+        return scoreBoard;
+    }
+
+    // called by the writer of the competition under its write lock
+    private void rank(String competition, List<MatchChange> changes) {
+        for (MatchChange change : changes) {
+            if (change.previous() != null && change.previous().isActive()) {
+                ranking.remove(new RankedMatch(competition, change.previous()));
+            }
+            if (change.current().isActive()) {
+                ranking.add(new RankedMatch(competition, change.current()));
+            }
+        }
+    }
+
+    /**
+     * The Match of the global ranking with its competition.
+     */
+    public record RankedMatch(String competition, Match match) {
+    }
+}
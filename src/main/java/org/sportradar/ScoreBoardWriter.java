@@ -0,0 +1,201 @@
+package org.sportradar;
+
+import org.sportradar.ScoreBoard.Match;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Single-writer mode of the {@link ScoreBoard}: the writes are submitted to a lock-free queue
+ * and applied by one dedicated writer thread, so the submitting threads (e.g. feed adapters) never wait
+ * for the write lock or for the Summary to be published.
+ *
+ * <p>The writer drains the queue in bursts: all the commands queued meanwhile (up to {@value #MAX_BURST})
+ * are applied under a single lock acquisition and published as a single new Summary.
+ * Unlike {@link ScoreBoard#apply(List)} the commands of a burst are independent: a failed command
+ * doesn't affect the others.
+ *
+ * <p>Every submission returns a {@link CompletableFuture} which completes with the resulting Match
+ * or with the exception the synchronous method of the {@code ScoreBoard} would throw,
+ * e.g. {@link ScoreBoard.SportRadarException}. The futures are completed by the writer thread:
+ * use the async stages for heavy callbacks.
+ *
+ * <p>The queue is bounded (see {@link #ScoreBoardWriter(ScoreBoard, int)}): a submission to a full queue
+ * doesn't block, its future fails with {@link RejectedExecutionException} at once, so a feed which outpaces
+ * the writer gets the back pressure instead of growing the heap.
+ *
+ * <p>The synchronous write methods of the board keep working in this mode.
+ */
+public class ScoreBoardWriter implements AutoCloseable {
+
+    static final int DEFAULT_CAPACITY = 65_536;
+    private static final int MAX_BURST = 1024;
+
+    private record Submission(MatchCommand command, CompletableFuture<Match> result) {
+    }
+
+    private final ScoreBoard scoreBoard;
+
+    // multiple producers, a single consumer: the writer thread
+    private final Queue<Submission> queue = new ConcurrentLinkedQueue<>();
+    // the number of the submissions in the queue, reserved by the submitters before they offer
+    private final AtomicInteger queued = new AtomicInteger();
+    private final int capacity;
+    private final Thread writer;
+
+    // set by the writer before it parks: the producers wake it up only if it may be parked
+    private volatile boolean parked;
+    private volatile boolean closed;
+    // set by the writer before its last drain: a submission queued later is rejected by the submitter
+    private volatile boolean terminated;
+
+    public ScoreBoardWriter(ScoreBoard scoreBoard) {
+        this(scoreBoard, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param capacity the maximum number of the submitted commands which aren't taken by the writer thread yet
+     */
+    public ScoreBoardWriter(ScoreBoard scoreBoard, int capacity) {
+        if (capacity <= 0)
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        this.scoreBoard = Objects.requireNonNull(scoreBoard);
+        this.capacity = capacity;
+        this.writer = new Thread(this::run, "score-board-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    /**
+     * @see ScoreBoard#startNewMatch(String, String)
+     */
+    public CompletableFuture<Match> startNewMatch(String homeTeam, String awayTeam) {
+        return submit(MatchCommand.startMatch(homeTeam, awayTeam));
+    }
+
+    /**
+     * @see ScoreBoard#updateMatchScore(String, int, String, int)
+     */
+    public CompletableFuture<Match> updateMatchScore(String homeTeam, int homeTeamScore, String awayTeam, int awayTeamScore) {
+        return submit(MatchCommand.updateScore(homeTeam, homeTeamScore, awayTeam, awayTeamScore));
+    }
+
+    /**
+     * @see ScoreBoard#finishMatch(String, String)
+     */
+    public CompletableFuture<Match> finishMatch(String homeTeam, String awayTeam) {
+        return submit(MatchCommand.finishMatch(homeTeam, awayTeam));
+    }
+
+    /**
+     * Submits the command to the writer thread.
+     *
+     * @return the future of the resulting Match, failed with {@link RejectedExecutionException}
+     * if the writer is closed or its queue is full
+     */
+    public CompletableFuture<Match> submit(MatchCommand command) {
+        Objects.requireNonNull(command);
+        CompletableFuture<Match> result = new CompletableFuture<>();
+        if (closed) {
+            result.completeExceptionally(new RejectedExecutionException("ScoreBoardWriter is closed"));
+            return result;
+        }
+        if (queued.incrementAndGet() > capacity) {
+            queued.decrementAndGet();
+            result.completeExceptionally(new RejectedExecutionException("ScoreBoardWriter queue is full: " + capacity));
+            return result;
+        }
+        queue.offer(new Submission(command, result));
+        if (terminated) {
+            rejectRemaining();
+        } else if (parked) {
+            LockSupport.unpark(writer);
+        }
+        return result;
+    }
+
+    /**
+     * Stops accepting new commands, waits for the writer thread to apply all the submitted ones and stops it.
+     * The {@code ScoreBoard} stays open.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        LockSupport.unpark(writer);
+        boolean interrupted = false;
+        while (writer.isAlive()) {
+            try {
+                writer.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run() {
+        List<Submission> burst = new ArrayList<>(MAX_BURST);
+        List<MatchCommand> commands = new ArrayList<>(MAX_BURST);
+        while (true) {
+            Submission submission;
+            while (burst.size() < MAX_BURST && (submission = queue.poll()) != null) {
+                queued.decrementAndGet();
+                burst.add(submission);
+                commands.add(submission.command);
+            }
+
+            if (!burst.isEmpty()) {
+                apply(burst, commands);
+                burst.clear();
+                commands.clear();
+            } else if (closed) {
+                terminated = true;
+                rejectRemaining();
+                return;
+            } else {
+                parked = true;
+                if (queue.isEmpty() && !closed) {
+                    LockSupport.park(this);
+                }
+                parked = false;
+            }
+        }
+    }
+
+    private void apply(List<Submission> burst, List<MatchCommand> commands) {
+        RuntimeException[] failures = new RuntimeException[burst.size()];
+        Match[] results;
+        try {
+            results = scoreBoard.applyEach(commands, failures);
+        } catch (RuntimeException e) {
+            for (Submission submission : burst) {
+                submission.result.completeExceptionally(e);
+            }
+            return;
+        }
+        for (int i = 0; i < burst.size(); i++) {
+            if (failures[i] != null) {
+                burst.get(i).result.completeExceptionally(failures[i]);
+            } else {
+                burst.get(i).result.complete(results[i]);
+            }
+        }
+    }
+
+    private void rejectRemaining() {
+        Submission submission;
+        while ((submission = queue.poll()) != null) {
+            queued.decrementAndGet();
+            submission.result.completeExceptionally(new RejectedExecutionException("ScoreBoardWriter is closed"));
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package org.sportradar;
+
+import org.sportradar.ScoreBoard.Match;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable published state of the {@link ScoreBoard}: the Summary with its version.
+ * <p>
+ * Everything a reader may need is prepared by the writer before the publication,
+ * e.g. the "no changes" answer is allocated once per version, not per read.
+ */
+final class Snapshot {
+
+    final long version;
+    final List<Match> summary;
+    final SummaryChanges noChanges;
+
+    // the finished matches still kept by the RetentionPolicy, the most recently finished first
+    final List<Match> recentlyFinished;
+
+    // read-only encoded Summary, null if the ScoreBoard has no SummaryEncoder
+    final ByteBuffer payload;
+
+    Snapshot(long version, List<Match> summary, List<Match> recentlyFinished, SummaryEncoder encoder) {
+        this.version = version;
+        this.summary = summary;
+        this.recentlyFinished = recentlyFinished;
+        this.noChanges = SummaryChanges.noChanges(version);
+        this.payload = encoder == null ? null : encode(version, summary, encoder);
+    }
+
+    private static ByteBuffer encode(long version, List<Match> summary, SummaryEncoder encoder) {
+        // heap buffer: a direct one per publish would hold the native memory until the GC runs its Cleaner,
+        // the price is a copy into the cached direct buffer of the thread on every channel write
+        return ByteBuffer.wrap(encoder.encode(version, summary)).asReadOnlyBuffer();
+    }
+
+    /**
+     * @return the changes which lead from the {@code base} snapshot to this one
+     */
+    SummaryChanges changesSince(Snapshot base) {
+        if (base == this) {
+            return noChanges;
+        }
+
+        Map<MatchKey, Match> baseMatches = new HashMap<>();
+        for (Match match : base.summary) {
+            baseMatches.put(MatchKey.of(match), match);
+        }
+
+        List<Match> added = new ArrayList<>();
+        List<Match> changed = new ArrayList<>();
+        for (Match match : summary) {
+            Match baseMatch = baseMatches.remove(MatchKey.of(match));
+            if (baseMatch == null) {
+                added.add(match);
+            } else if (!baseMatch.equals(match)) {
+                changed.add(match);
+            }
+        }
+
+        List<Match> removed = new ArrayList<>(baseMatches.size());
+        for (Match match : base.summary) {
+            if (baseMatches.containsKey(MatchKey.of(match))) {
+                removed.add(match);
+            }
+        }
+        return new SummaryChanges(version, false, List.copyOf(added), List.copyOf(changed), List.copyOf(removed));
+    }
+}
@@ -0,0 +1,193 @@
+package org.sportradar;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * {@link ReplicationTransport} over TCP: the leader listens on the address, the followers connect to it.
+ * Every frame is sent as {@code int length | frame} (big-endian).
+ *
+ * <p>Every connected follower has its own bounded queue and thread on the leader: a slow follower is resynced,
+ * a failed connection is dropped. A disconnected follower reconnects and starts over from the whole state of
+ * the leader.
+ */
+public class SocketReplication implements ReplicationTransport {
+
+    private static final Logger log = LoggerFactory.getLogger(SocketReplication.class);
+
+    private static final int DEFAULT_CAPACITY = 1024;
+    private static final int MAX_FRAME_LENGTH = 64 * 1024 * 1024;
+    private static final long RECONNECT_DELAY_MILLIS = 100;
+
+    private final InetSocketAddress address;
+    private final int capacity;
+
+    private final List<QueuedReplicationSink> sinks = new CopyOnWriteArrayList<>();
+    private volatile ServerSocketChannel server;
+    private volatile SocketChannel connection;
+    private volatile ScoreBoard leader;
+    private volatile Thread thread;
+    private volatile boolean closed;
+
+    /**
+     * @param address the address the leader listens on and the followers connect to
+     */
+    public SocketReplication(InetSocketAddress address) {
+        this(address, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param capacity the maximum number of the frames queued per follower on the leader
+     */
+    public SocketReplication(InetSocketAddress address, int capacity) {
+        if (capacity <= 0)
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        this.address = Objects.requireNonNull(address);
+        this.capacity = capacity;
+    }
+
+    /**
+     * @param port the port on the loopback interface, 0 for any free port (see {@link #getLocalAddress()})
+     */
+    public static SocketReplication loopback(int port) {
+        return new SocketReplication(new InetSocketAddress(InetAddress.getLoopbackAddress(), port));
+    }
+
+    /**
+     * @return the address the leader listens on, e.g. with the port chosen by the system
+     * @throws IllegalStateException if no leader has been published by this transport
+     */
+    public InetSocketAddress getLocalAddress() throws IOException {
+        ServerSocketChannel server = this.server;
+        if (server == null)
+            throw new IllegalStateException("No leader has been published");
+        return (InetSocketAddress) server.getLocalAddress();
+    }
+
+    @Override
+    public synchronized void publish(ScoreBoard leader) throws IOException {
+        if (thread != null)
+            throw new IllegalStateException("SocketReplication is already started");
+        this.leader = Objects.requireNonNull(leader);
+        this.server = ServerSocketChannel.open().bind(address);
+        start("score-board-replication-leader", this::accept);
+    }
+
+    @Override
+    public synchronized void subscribe(ScoreBoardFollower follower) {
+        Objects.requireNonNull(follower);
+        if (thread != null)
+            throw new IllegalStateException("SocketReplication is already started");
+        start("score-board-replication-follower", () -> follow(follower));
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        closeQuietly(server);
+        closeQuietly(connection);
+        for (QueuedReplicationSink sink : sinks) {
+            leader.removeReplica(sink);
+            sink.close();
+        }
+        sinks.clear();
+        Thread thread = this.thread;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    private void start(String name, Runnable task) {
+        thread = new Thread(task, name);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private void accept() {
+        while (!closed) {
+            try {
+                SocketChannel channel = server.accept();
+                QueuedReplicationSink sink = new QueuedReplicationSink(
+                        "score-board-replica-" + channel.getRemoteAddress(), capacity,
+                        frame -> write(channel, frame),
+                        failed -> {
+                            leader.removeReplica(failed);
+                            sinks.remove(failed);
+                            closeQuietly(channel);
+                        });
+                sinks.add(sink);
+                leader.addReplica(sink);
+            } catch (IOException e) {
+                if (!closed) {
+                    log.warn("Failed to accept a follower", e);
+                }
+            }
+        }
+    }
+
+    private void follow(ScoreBoardFollower follower) {
+        ByteBuffer header = ByteBuffer.allocate(Integer.BYTES);
+        while (!closed) {
+            try (SocketChannel channel = SocketChannel.open(address)) {
+                connection = channel;
+                while (!closed) {
+                    readFully(channel, header.clear());
+                    int length = header.flip().getInt();
+                    if (length < 0 || length > MAX_FRAME_LENGTH)
+                        throw new IOException("Invalid length of the replication frame: " + length);
+                    ByteBuffer frame = ByteBuffer.allocate(length);
+                    readFully(channel, frame);
+                    follower.accept(frame.flip());
+                }
+            } catch (IOException e) {
+                if (!closed) {
+                    log.warn("Replication from [{}] is interrupted, reconnecting", address, e);
+                    pauseBeforeReconnect();
+                }
+            }
+        }
+    }
+
+    private void pauseBeforeReconnect() {
+        try {
+            Thread.sleep(RECONNECT_DELAY_MILLIS);
+        } catch (InterruptedException e) {
+            // only close() interrupts the follower
+        }
+    }
+
+    private static void write(SocketChannel channel, ByteBuffer frame) throws IOException {
+        ByteBuffer[] buffers = {ByteBuffer.allocate(Integer.BYTES).putInt(frame.remaining()).flip(), frame};
+        while (frame.hasRemaining()) {
+            channel.write(buffers);
+        }
+    }
+
+    private static void readFully(SocketChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                throw new EOFException("Connection is closed by the leader");
+            }
+        }
+    }
+
+    private static void closeQuietly(AutoCloseable closeable) {
+        if (closeable == null) return;
+        try {
+            closeable.close();
+        } catch (Exception e) {
+            log.debug("Failed to close [{}]", closeable, e);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package org.sportradar;
+
+import org.sportradar.ScoreBoard.Match;
+
+import java.util.List;
+
+/**
+ * The difference between a Summary known to the client and the current Summary of the {@link ScoreBoard},
+ * see {@link ScoreBoard#getChangesSince(long)}.
+ * <p>
+ * The matches of the lists are in the Summary order. If the known version is too old (or unknown) to calculate
+ * the difference, the changes are a {@code reset}: {@code added} contains the whole current Summary
+ * and the client is supposed to replace its state.
+ *
+ * @param version the version of the current Summary, which the changes lead to
+ * @param reset   whether the client has to replace its state with {@code added}
+ * @param added   the matches which have been started
+ * @param changed the matches which score has been changed
+ * @param removed the matches which have been removed from the Summary (finished), in their last known state
+ */
+public record SummaryChanges(long version, boolean reset, List<Match> added, List<Match> changed, List<Match> removed) {
+
+    static SummaryChanges noChanges(long version) {
+        return new SummaryChanges(version, false, List.of(), List.of(), List.of());
+    }
+
+    static SummaryChanges reset(long version, List<Match> summary) {
+        return new SummaryChanges(version, true, summary, List.of(), List.of());
+    }
+
+    /**
+     * @return true if nothing has been changed since the known version
+     */
+    public boolean isEmpty() {
+        return !reset && added.isEmpty() && changed.isEmpty() && removed.isEmpty();
+    }
+}
@@ -0,0 +1,39 @@
+package org.sportradar;
+
+import org.sportradar.ScoreBoard.Match;
+
+import java.util.List;
+
+/**
+ * Renders the Summary to bytes once per change of the {@link ScoreBoard}, see {@link ScoreBoard#getSummaryPayload()}.
+ * <p>
+ * Called by the writer under the write lock, so it's supposed to be fast and must not block.
+ */
+public interface SummaryEncoder {
+
+    /**
+     * @return the media type of the encoded payload, e.g. to be used as HTTP Content-Type
+     */
+    String mediaType();
+
+    /**
+     * @param version the version of the Summary
+     * @param summary the ordered list of the active matches
+     * @return the encoded Summary
+     */
+    byte[] encode(long version, List<Match> summary);
+
+    /**
+     * @return the encoder to JSON: {@code {"version":1,"matches":[{"homeTeam":"Spain","homeTeamScore":1,...}]}}
+     */
+    static SummaryEncoder json() {
+        return new JsonSummaryEncoder();
+    }
+
+    /**
+     * @return the encoder to the compact binary format, see {@link BinarySummaryEncoder}
+     */
+    static SummaryEncoder binary() {
+        return new BinarySummaryEncoder();
+    }
+}
@@ -0,0 +1,128 @@
+package org.sportradar;
+
+import org.sportradar.ScoreBoard.Match;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Secondary (covering) index of the Summary: the active matches kept sorted by
+ * total score desc, then by the most recently started, then by the order of start on the board.
+ * <p>
+ * It's a sorted array, so a score change only moves the single changed entry by the number of positions
+ * it overtakes: {@code O(log n + k)} instead of re-sorting the whole board.
+ * Publishing the summary is a plain copy of the already ordered matches without any comparison.
+ * <p>
+ * Not thread-safe: guarded by the write lock of the owning {@link ScoreBoard}.
+ */
+final class SummaryIndex {
+
+    private MatchEntry[] entries = new MatchEntry[16];
+    private int size;
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * @return the entry at the given position of the Summary order
+     */
+    MatchEntry get(int position) {
+        return entries[position];
+    }
+
+    void add(MatchEntry entry) {
+        if (size == entries.length) {
+            entries = Arrays.copyOf(entries, size * 2);
+        }
+        int position = insertionPoint(entry);
+        System.arraycopy(entries, position, entries, position + 1, size - position);
+        entries[position] = entry;
+        size++;
+    }
+
+    /**
+     * Adds all the entries at once: a single sort instead of a shift of the array per entry, e.g. for a bulk load.
+     */
+    void addAll(List<MatchEntry> added) {
+        if (size + added.size() > entries.length) {
+            entries = Arrays.copyOf(entries, Math.max(entries.length * 2, size + added.size()));
+        }
+        for (MatchEntry entry : added) {
+            entries[size++] = entry;
+        }
+        Arrays.sort(entries, 0, size, SummaryIndex::compare);
+    }
+
+    void remove(MatchEntry entry) {
+        int position = indexOf(entry);
+        System.arraycopy(entries, position + 1, entries, position, size - position - 1);
+        entries[--size] = null;
+    }
+
+    /**
+     * Replaces the Match of the given entry and moves the entry to its new position.
+     */
+    void update(MatchEntry entry, Match updatedMatch) {
+        int from = indexOf(entry);
+        entry.match = updatedMatch;
+
+        int to = from;
+        while (to > 0 && compare(entries[to - 1], entry) > 0) to--;
+        if (to == from) {
+            while (to < size - 1 && compare(entries[to + 1], entry) < 0) to++;
+        }
+
+        if (to < from) {
+            System.arraycopy(entries, to, entries, to + 1, from - to);
+        } else if (to > from) {
+            System.arraycopy(entries, from + 1, entries, from, to - from);
+        }
+        entries[to] = entry;
+    }
+
+    /**
+     * @return the unmodifiable ordered list of the matches in the index
+     */
+    List<Match> toList() {
+        Match[] matches = new Match[size];
+        for (int i = 0; i < size; i++) {
+            matches[i] = entries[i].match;
+        }
+        return Collections.unmodifiableList(Arrays.asList(matches));
+    }
+
+    private int indexOf(MatchEntry entry) {
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = compare(entries[mid], entry);
+            if (cmp < 0) low = mid + 1;
+            else if (cmp > 0) high = mid - 1;
+            else return mid;
+        }
+        throw new IllegalStateException("Match is not indexed: " + entry.key);
+    }
+
+    private int insertionPoint(MatchEntry entry) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compare(entries[mid], entry) < 0) low = mid + 1;
+            else high = mid;
+        }
+        return low;
+    }
+
+    // total score desc, startedAt desc, seq asc: a total order as seq is unique per board
+    static int compare(MatchEntry a, MatchEntry b) {
+        int byScore = Integer.compare(b.totalScore(), a.totalScore());
+        if (byScore != 0) return byScore;
+        int byStart = b.match.startedAt().compareTo(a.match.startedAt());
+        if (byStart != 0) return byStart;
+        return Long.compare(a.seq, b.seq);
+    }
+}
@@ -0,0 +1,186 @@
+package org.sportradar;
+
+import org.sportradar.ScoreBoard.Match;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * Filtered Summaries maintained by the writer on every change: the active matches of every named group
+ * and of every team which has been read (see {@link #request(String, List)}) of the {@link ScoreBoard}.
+ * <p>
+ * Every view is a small {@link SummaryIndex} of its own, which publishes an immutable list,
+ * so reads of a view don't filter or copy anything.
+ * <p>
+ * The view of a team is built by the writer on the next change after the first read of the team, not on the start
+ * of its first Match: a board of millions of matches (e.g. a bulk import) doesn't pay for the views nobody reads.
+ * Till then the reader filters the published Summary itself, once per Summary.
+ * <p>
+ * Changes are applied by the writer under the write lock of the owning {@link ScoreBoard},
+ * views are read without locks.
+ */
+final class SummaryViews {
+
+    private final Map<String, SummaryView> teams = new ConcurrentHashMap<>();
+    // the teams read before their views are built, with their matches filtered from the read Summary
+    private final Map<String, Requested> requested = new ConcurrentHashMap<>();
+    private final SummaryIndex summary;
+    private final Map<String, Group> groups;
+    private final Group[] groupArray;
+
+    private final List<SummaryView> changedViews = new ArrayList<>();
+
+    private record Group(Predicate<Match> filter, SummaryView view) {
+    }
+
+    private record Requested(List<Match> summary, List<Match> matches) {
+    }
+
+    /**
+     * @param summary the active matches of the board, the views of the teams are built from
+     */
+    SummaryViews(Map<String, Predicate<Match>> groupFilters, SummaryIndex summary) {
+        this.summary = summary;
+        Map<String, Group> groups = new LinkedHashMap<>();
+        groupFilters.forEach((name, filter) -> groups.put(name, new Group(filter, new SummaryView())));
+        this.groups = Collections.unmodifiableMap(groups);
+        this.groupArray = groups.values().toArray(new Group[0]);
+    }
+
+    /**
+     * @return the view of the team, null if the team isn't watched yet
+     */
+    List<Match> team(String team) {
+        SummaryView view = teams.get(team);
+        return view == null ? null : view.published;
+    }
+
+    /**
+     * Requests the view of the team, e.g. on the first read of the team: the writer builds it on the next change.
+     * Called by the readers without the lock.
+     *
+     * @param published the published Summary
+     * @return the matches of the team in the published Summary
+     */
+    List<Match> request(String team, List<Match> published) {
+        Requested request = requested.get(team);
+        if (request == null || request.summary != published) {
+            List<Match> matches = new ArrayList<>();
+            for (int i = 0; i < published.size(); i++) {
+                Match match = published.get(i);
+                if (match.homeTeam().equals(team) || match.awayTeam().equals(team)) {
+                    matches.add(match);
+                }
+            }
+            request = new Requested(published, List.copyOf(matches));
+            requested.put(team, request);
+        }
+        return request.matches;
+    }
+
+    /**
+     * @return the view of the group, null if there is no such group
+     */
+    List<Match> group(String name) {
+        Group group = groups.get(name);
+        return group == null ? null : group.view.published;
+    }
+
+    void apply(List<MatchChange> changes) {
+        // indexed loops: no iterators on the write path
+        for (int i = 0; i < changes.size(); i++) {
+            MatchChange change = changes.get(i);
+            MatchEntry entry = change.entry();
+            boolean active = change.current().isActive();
+            applyToTeam(entry.key.homeTeam(), entry, active);
+            applyToTeam(entry.key.awayTeam(), entry, active);
+            for (Group group : groupArray) {
+                apply(group.view, entry, active && group.filter.test(change.current()));
+            }
+        }
+
+        for (int i = 0; i < changedViews.size(); i++) {
+            changedViews.get(i).publish();
+        }
+        changedViews.clear();
+
+        if (!requested.isEmpty()) {
+            watchRequested();
+        }
+    }
+
+    // builds the views of the requested teams from the Summary, which already includes the applied changes.
+    // A view is kept even without active matches: the teams of a board are bounded, see TeamIds
+    private void watchRequested() {
+        for (String team : requested.keySet()) {
+            if (!teams.containsKey(team)) {
+                SummaryView view = new SummaryView();
+                for (int i = 0; i < summary.size(); i++) {
+                    MatchEntry entry = summary.get(i);
+                    if (entry.key.homeTeam().equals(team) || entry.key.awayTeam().equals(team)) {
+                        view.put(entry);
+                    }
+                }
+                view.publish();
+                teams.put(team, view);
+            }
+            requested.remove(team);
+        }
+    }
+
+    private void applyToTeam(String team, MatchEntry entry, boolean active) {
+        SummaryView view = teams.get(team);
+        if (view != null) {
+            apply(view, entry, active);
+        }
+    }
+
+    private void apply(SummaryView view, MatchEntry entry, boolean member) {
+        boolean changed = member ? view.put(entry) : view.remove(entry.key);
+        if (changed && !view.changed) {
+            view.changed = true;
+            changedViews.add(view);
+        }
+    }
+
+    /**
+     * Matches of a single view: own entries (copies of the entries of the board) in own Summary index.
+     */
+    private static final class SummaryView {
+
+        private final Map<MatchKey, MatchEntry> entries = new HashMap<>();
+        private final SummaryIndex index = new SummaryIndex();
+        private volatile List<Match> published = List.of();
+        private boolean changed;
+
+        boolean put(MatchEntry source) {
+            MatchEntry entry = entries.get(source.key);
+            if (entry == null) {
+                entry = new MatchEntry(source.key, source.seq, source.match);
+                entries.put(source.key, entry);
+                index.add(entry);
+            } else {
+                index.update(entry, source.match);
+            }
+            return true;
+        }
+
+        boolean remove(MatchKey key) {
+            MatchEntry entry = entries.remove(key);
+            if (entry == null) return false;
+            index.remove(entry);
+            return true;
+        }
+
+        void publish() {
+            published = index.toList();
+            changed = false;
+        }
+    }
+}
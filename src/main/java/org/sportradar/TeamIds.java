@@ -0,0 +1,57 @@
+package org.sportradar;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Interned team names: every team gets a compact int id when its first Match starts on the board.
+ * <p>
+ * All the matches of a team share the single canonical instance of its name, and the lookups of the write path
+ * resolve a pair of names into the primitive key of {@link MatchTable} without allocating a key object.
+ * Ids are never reused: the number of the teams of a board is small and bounded.
+ * <p>
+ * Interned by the writer under the write lock of the owning {@link ScoreBoard},
+ * {@link #idOf(String)} may be called by the readers without the lock.
+ */
+final class TeamIds {
+
+    static final int NOT_FOUND = -1;
+
+    private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+    private String[] names = new String[64];
+
+    int intern(String team) {
+        Integer id = ids.get(team);
+        if (id != null) {
+            return id;
+        }
+        int newId = ids.size();
+        if (newId == names.length) {
+            names = Arrays.copyOf(names, newId * 2);
+        }
+        names[newId] = team;
+        ids.put(team, newId);
+        return newId;
+    }
+
+    /**
+     * @return the id of the team or {@link #NOT_FOUND} if the team has never played on the board
+     */
+    int idOf(String team) {
+        Integer id = ids.get(team);
+        return id == null ? NOT_FOUND : id;
+    }
+
+    String name(int id) {
+        return names[id];
+    }
+
+    /**
+     * @return the names by id: a name is never written again once its id is assigned, the array is replaced to grow,
+     * so the array may be read by other threads after a safe publication for the ids assigned before
+     */
+    String[] names() {
+        return names;
+    }
+}
@@ -0,0 +1,12 @@
+package org.sportradar;
+
+import java.time.Instant;
+
+/**
+ * A change of a Match recorded by the history of the {@link ScoreBoard}, see {@link ScoreBoard#getTimeline(String, String)}.
+ *
+ * @param at    the time of the change
+ * @param event the change
+ */
+public record TimelineEntry(Instant at, MatchEvent event) {
+}
@@ -0,0 +1,271 @@
+package org.sportradar;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.sportradar.BoardStateCodec.BoardState;
+import org.sportradar.BoardStateCodec.MatchState;
+import org.sportradar.ScoreBoard.Match;
+import org.sportradar.ScoreBoard.SportRadarException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the export of the whole state of the {@link ScoreBoard} and its import into another board.
+ */
+class ExportImportTest {
+
+    private static final Instant KICK_OFF = Instant.parse("2024-12-12T20:00:00.00Z");
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void cloneBoardThroughFile() throws IOException {
+        // Given
+        ScoreBoard scoreBoard = board();
+        scoreBoard.startNewMatch("Spain", "Brazil");
+        scoreBoard.startNewMatch("Mexico", "Canada");
+        scoreBoard.startNewMatch("Uruguay", "Italy");
+        scoreBoard.updateMatchScore("Mexico", 0, "Canada", 5);
+        scoreBoard.finishMatch("Uruguay", "Italy");
+
+        Path file = directory.resolve("board.snapshot");
+        try (FileChannel channel = FileChannel.open(file, CREATE, WRITE)) {
+            scoreBoard.exportSnapshot(channel);
+        }
+
+        // When
+        ScoreBoard clone = board();
+        try (FileChannel channel = FileChannel.open(file, READ)) {
+            clone.importSnapshot(channel);
+        }
+
+        // Then: the same Summary of the same version, the finished matches are kept
+        assertEquals(scoreBoard.getSummary(), clone.getSummary());
+        assertEquals(scoreBoard.getVersion(), clone.getVersion());
+        assertEquals(scoreBoard.getRecentlyFinished(), clone.getRecentlyFinished());
+        assertThrows(SportRadarException.class, () -> clone.startNewMatch("Uruguay", "Italy"));
+
+        // and the clone keeps the order of start for the equal matches
+        clone.updateMatchScore("Spain", 0, "Brazil", 5);
+        assertEquals(List.of(
+                new Match("Spain", 0, "Brazil", 5, true, KICK_OFF),
+                new Match("Mexico", 0, "Canada", 5, true, KICK_OFF)), clone.getSummary());
+    }
+
+    @Test
+    void importReplacesStateAsSingleSummary() throws IOException {
+        // Given
+        ScoreBoard source = board();
+        source.startNewMatch("Spain", "Brazil");
+        source.updateMatchScore("Spain", 1, "Brazil", 0);
+        byte[] snapshot = export(source);
+
+        ScoreBoard scoreBoard = board();
+        scoreBoard.startNewMatch("Mexico", "Canada");
+        scoreBoard.startNewMatch("Uruguay", "Italy");
+        scoreBoard.updateMatchScore("Mexico", 1, "Canada", 1);
+        scoreBoard.updateMatchScore("Mexico", 2, "Canada", 1);
+        long version = scoreBoard.getVersion();
+
+        // When
+        scoreBoard.importSnapshot(Channels.newChannel(new ByteArrayInputStream(snapshot)));
+
+        // Then: the board is ahead of the exported one, so the version goes on
+        assertEquals(List.of(new Match("Spain", 1, "Brazil", 0, true, KICK_OFF)), scoreBoard.getSummary());
+        assertEquals(version + 1, scoreBoard.getVersion());
+        SummaryChanges changes = scoreBoard.getChangesSince(version);
+        assertEquals(List.of(new Match("Spain", 1, "Brazil", 0, true, KICK_OFF)), changes.added());
+        assertEquals(2, changes.removed().size());
+
+        // and the removed matches are forgotten
+        scoreBoard.startNewMatch("Mexico", "Canada");
+    }
+
+    @Test
+    void importOntoJournaledBoard() throws IOException {
+        // Given
+        ScoreBoard source = board();
+        source.startNewMatch("Spain", "Brazil");
+        byte[] snapshot = export(source);
+
+        ScoreBoard.Builder journaled = ScoreBoard.builder()
+                .instantSource(() -> KICK_OFF)
+                .retentionPolicy(RetentionPolicy.keepLast(10))
+                .journal(JournalSettings.of(directory));
+        try (ScoreBoard scoreBoard = journaled.build()) {
+            scoreBoard.startNewMatch("Mexico", "Canada");
+            scoreBoard.startNewMatch("Uruguay", "Italy");
+            scoreBoard.finishMatch("Uruguay", "Italy");
+
+            // When
+            scoreBoard.importSnapshot(Channels.newChannel(new ByteArrayInputStream(snapshot)));
+
+            // Then
+            assertEquals(List.of(new Match("Spain", 0, "Brazil", 0, true, KICK_OFF)), scoreBoard.getSummary());
+        }
+
+        // Then: the removed matches are not recovered from the journal
+        try (ScoreBoard recovered = journaled.build()) {
+            assertEquals(List.of(new Match("Spain", 0, "Brazil", 0, true, KICK_OFF)), recovered.getSummary());
+            assertEquals(List.of(), recovered.getRecentlyFinished());
+            recovered.startNewMatch("Mexico", "Canada");
+            recovered.startNewMatch("Uruguay", "Italy");
+        }
+    }
+
+    @Test
+    void importOntoLeaderWithFollower() throws Exception {
+        // Given
+        ScoreBoard source = board();
+        source.startNewMatch("Spain", "Brazil");
+        byte[] snapshot = export(source);
+
+        ScoreBoard leader = board();
+        leader.startNewMatch("Mexico", "Canada");
+        leader.startNewMatch("Uruguay", "Italy");
+        leader.finishMatch("Uruguay", "Italy");
+        try (ScoreBoardFollower follower = new ScoreBoardFollower(ScoreBoard.builder().instantSource(() -> KICK_OFF));
+             ReplicationTransport transport = new InProcessReplication()) {
+            transport.publish(leader);
+            transport.subscribe(follower);
+
+            // When
+            leader.importSnapshot(Channels.newChannel(new ByteArrayInputStream(snapshot)));
+
+            // Then: the follower removes the matches missing in the snapshot as well
+            long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+            while (follower.getVersion() != leader.getVersion()) {
+                assertTrue(System.nanoTime() < deadline, "Follower is at version " + follower.getVersion());
+                follower.scoreBoard().awaitChange(follower.getVersion(), Duration.ofMillis(100));
+            }
+            assertEquals(List.of(new Match("Spain", 0, "Brazil", 0, true, KICK_OFF)), follower.getSummary());
+            ScoreBoard copy = board();
+            copy.importSnapshot(Channels.newChannel(new ByteArrayInputStream(export(follower.scoreBoard()))));
+            assertEquals(List.of(), copy.getRecentlyFinished());
+        } finally {
+            leader.close();
+        }
+    }
+
+    @Test
+    void malformedSnapshotIsRejected() throws IOException {
+        // Given
+        ScoreBoard source = board();
+        source.startNewMatch("Spain", "Brazil");
+        byte[] snapshot = export(source);
+
+        ScoreBoard scoreBoard = board();
+        scoreBoard.startNewMatch("Mexico", "Canada");
+        List<Match> summary = scoreBoard.getSummary();
+
+        // When-Then: the board isn't changed
+        byte[] truncated = Arrays.copyOf(snapshot, snapshot.length - 1);
+        assertThrows(IOException.class, () -> scoreBoard.importSnapshot(Channels.newChannel(new ByteArrayInputStream(truncated))));
+        assertEquals(summary, scoreBoard.getSummary());
+    }
+
+    @Test
+    void duplicateMatchIsRejected() throws IOException {
+        // Given
+        MatchState match = new MatchState(new Match("Spain", 1, "Brazil", 0, true, KICK_OFF), null);
+        ByteBuffer snapshot = BoardStateCodec.encode(new BoardState(1, List.of(match, match)));
+
+        ScoreBoard scoreBoard = board();
+        scoreBoard.startNewMatch("Mexico", "Canada");
+        List<Match> summary = scoreBoard.getSummary();
+
+        // When-Then: the board isn't changed
+        assertThrows(IOException.class, () -> scoreBoard.importSnapshot(channel(snapshot)));
+        assertEquals(summary, scoreBoard.getSummary());
+    }
+
+    @Test
+    void malformedNumberOfMatchesIsRejected() throws IOException {
+        // Given
+        ScoreBoard source = board();
+        source.startNewMatch("Spain", "Brazil");
+        ByteBuffer negative = ByteBuffer.wrap(export(source)).putInt(13, -1);
+        ByteBuffer tooLarge = ByteBuffer.wrap(export(source)).putInt(13, Integer.MAX_VALUE);
+
+        ScoreBoard scoreBoard = board();
+
+        // When-Then
+        assertThrows(IOException.class, () -> scoreBoard.importSnapshot(channel(negative)));
+        assertThrows(IOException.class, () -> scoreBoard.importSnapshot(channel(tooLarge)));
+        assertEquals(0, scoreBoard.getVersion());
+    }
+
+    @Test
+    void malformedMatchIsRejected() {
+        List<Match> malformed = List.of(
+                new Match("Spain", -1, "Brazil", 0, true, KICK_OFF),
+                new Match("Spain", 0, "Spain", 0, true, KICK_OFF),
+                new Match(" ", 0, "Brazil", 0, true, KICK_OFF));
+        for (Match match : malformed) {
+            ByteBuffer snapshot = BoardStateCodec.encode(new BoardState(1, List.of(new MatchState(match, null))));
+            assertThrows(IOException.class, () -> board().importSnapshot(channel(snapshot)));
+        }
+
+        // the nanos of startedAt out of range
+        ByteBuffer snapshot = BoardStateCodec.encode(new BoardState(1, List.of(
+                new MatchState(new Match("Spain", 0, "Brazil", 0, true, KICK_OFF), null))));
+        snapshot.putInt(snapshot.limit() - 4, 1_000_000_000);
+        assertThrows(IOException.class, () -> board().importSnapshot(channel(snapshot)));
+    }
+
+    @Test
+    void bulkLoadLargeBoard() throws IOException {
+        // Given
+        ScoreBoard source = board();
+        List<MatchCommand> commands = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            commands.add(MatchCommand.startMatch("home-" + i, "away-" + i));
+            commands.add(MatchCommand.updateScore("home-" + i, i % 5, "away-" + i, i % 3));
+        }
+        source.apply(commands);
+
+        // When
+        ScoreBoard clone = board();
+        clone.importSnapshot(Channels.newChannel(new ByteArrayInputStream(export(source))));
+
+        // Then
+        assertEquals(source.getSummary(), clone.getSummary());
+    }
+
+    private static ScoreBoard board() {
+        return ScoreBoard.builder()
+                .instantSource(() -> KICK_OFF)
+                .retentionPolicy(RetentionPolicy.keepLast(10))
+                .build();
+    }
+
+    private static ReadableByteChannel channel(ByteBuffer snapshot) {
+        return Channels.newChannel(new ByteArrayInputStream(snapshot.array(), snapshot.position(), snapshot.remaining()));
+    }
+
+    private static byte[] export(ScoreBoard scoreBoard) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        scoreBoard.exportSnapshot(Channels.newChannel(out));
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,95 @@
+package org.sportradar;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.sportradar.FileAuditSink.AuditRecord;
+import org.sportradar.MatchEvent.MatchFinished;
+import org.sportradar.MatchEvent.MatchStarted;
+import org.sportradar.MatchEvent.ScoreUpdated;
+import org.sportradar.ScoreBoard.Match;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class FileAuditSinkTest {
+
+    private static final Instant KICK_OFF = Instant.parse("2024-12-12T20:00:00.00Z");
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void auditChanges() throws IOException {
+        // Given
+        Path file = directory.resolve("audit.bin");
+        try (ScoreBoard scoreBoard = auditedBoard(file)) {
+
+            // When
+            scoreBoard.startNewMatch("Spain", "Brazil");
+            scoreBoard.updateMatchScore("Spain", 1, "Brazil", 0);
+            assertThrows(ScoreBoard.SportRadarException.class, () -> scoreBoard.updateMatchScore("Mexico", 1, "Canada", 0));
+            scoreBoard.finishMatch("Spain", "Brazil");
+        }
+
+        // Then: the applied changes only, in order
+        assertEquals(List.of(
+            new AuditRecord(1, new MatchStarted(new Match("Spain", 0, "Brazil", 0, true, KICK_OFF))),
+            new AuditRecord(2, new ScoreUpdated(
+                new Match("Spain", 0, "Brazil", 0, true, KICK_OFF),
+                new Match("Spain", 1, "Brazil", 0, true, KICK_OFF))),
+            new AuditRecord(3, new MatchFinished(new Match("Spain", 1, "Brazil", 0, false, KICK_OFF)))
+        ), FileAuditSink.read(file));
+    }
+
+    @Test
+    void appendToExistingFile() throws IOException {
+        // Given
+        Path file = directory.resolve("audit.bin");
+        try (ScoreBoard scoreBoard = auditedBoard(file)) {
+            scoreBoard.startNewMatch("Spain", "Brazil");
+        }
+
+        // When
+        try (ScoreBoard scoreBoard = auditedBoard(file)) {
+            scoreBoard.startNewMatch("Mexico", "Canada");
+        }
+
+        // Then
+        assertEquals(List.of(
+            new AuditRecord(1, new MatchStarted(new Match("Spain", 0, "Brazil", 0, true, KICK_OFF))),
+            new AuditRecord(1, new MatchStarted(new Match("Mexico", 0, "Canada", 0, true, KICK_OFF)))
+        ), FileAuditSink.read(file));
+    }
+
+    @Test
+    void skipTornRecord() throws IOException {
+        // Given: a crash in the middle of the second record
+        Path file = directory.resolve("audit.bin");
+        try (ScoreBoard scoreBoard = auditedBoard(file)) {
+            scoreBoard.startNewMatch("Spain", "Brazil");
+        }
+        long length = Files.size(file);
+        Files.write(file, new byte[]{0, 0, 0, 50, 0, 0, 0}, StandardOpenOption.APPEND);
+
+        // When
+        List<AuditRecord> records = FileAuditSink.read(file);
+
+        // Then
+        assertEquals(1, records.size());
+        assertEquals(length + 7, Files.size(file));
+    }
+
+    private static ScoreBoard auditedBoard(Path file) throws IOException {
+        return ScoreBoard.builder()
+            .instantSource(() -> KICK_OFF)
+            .auditSink(FileAuditSink.open(file))
+            .build();
+    }
+}
@@ -0,0 +1,181 @@
+package org.sportradar;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.sportradar.ScoreBoard.Match;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the recovery of the {@link ScoreBoard} from the {@link Journal}: the board is closed (or crashed)
+ * and built again from the same directory.
+ */
+class JournalTest {
+
+    private static final Instant KICK_OFF = Instant.parse("2024-12-12T20:00:00.00Z");
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void recoverBoard() {
+        // Given
+        List<Match> summary;
+        long version;
+        try (ScoreBoard scoreBoard = journaledBoard(JournalSettings.of(directory))) {
+            scoreBoard.startNewMatch("Spain", "Brazil");
+            scoreBoard.startNewMatch("Mexico", "Canada");
+            scoreBoard.startNewMatch("Uruguay", "Italy");
+            scoreBoard.updateMatchScore("Mexico", 0, "Canada", 5);
+            scoreBoard.finishMatch("Uruguay", "Italy");
+            summary = scoreBoard.getSummary();
+            version = scoreBoard.getVersion();
+        }
+
+        // When
+        try (ScoreBoard recovered = journaledBoard(JournalSettings.of(directory))) {
+
+            // Then: the same Summary, version and finished matches
+            assertEquals(summary, recovered.getSummary());
+            assertEquals(version, recovered.getVersion());
+            assertThrows(ScoreBoard.SportRadarException.class, () -> recovered.startNewMatch("Uruguay", "Italy"));
+        }
+    }
+
+    @Test
+    void recoverFromSnapshotAndJournalTail() throws IOException {
+        // Given: the journal is compacted every 3 changes
+        JournalSettings settings = new JournalSettings(directory, 1, 3);
+        List<Match> summary;
+        try (ScoreBoard scoreBoard = journaledBoard(settings)) {
+            scoreBoard.startNewMatch("Spain", "Brazil");
+            scoreBoard.startNewMatch("Mexico", "Canada");
+            scoreBoard.updateMatchScore("Spain", 1, "Brazil", 0);
+            scoreBoard.updateMatchScore("Mexico", 0, "Canada", 2);
+            summary = scoreBoard.getSummary();
+        }
+        assertTrue(Files.exists(directory.resolve(Journal.SNAPSHOT_FILE)));
+
+        // When-Then
+        try (ScoreBoard recovered = journaledBoard(settings)) {
+            assertEquals(summary, recovered.getSummary());
+            assertEquals(4, recovered.getVersion());
+
+            // and the recovered board keeps the order of start for the equal matches
+            recovered.updateMatchScore("Mexico", 0, "Canada", 1);
+            assertEquals(List.of(
+                new Match("Spain", 1, "Brazil", 0, true, KICK_OFF),
+                new Match("Mexico", 0, "Canada", 1, true, KICK_OFF)), recovered.getSummary());
+        }
+    }
+
+    @Test
+    void failedSnapshotIsRetriedAfterBackoff() throws IOException {
+        // Given: the journal is compacted every 2 changes, the snapshot can't be written
+        JournalSettings settings = new JournalSettings(directory, 1, 2);
+        Path snapshotFile = directory.resolve(Journal.SNAPSHOT_FILE);
+        Path blocker = Files.createDirectories(snapshotFile.resolveSibling(Journal.SNAPSHOT_FILE + ".tmp"));
+        try (ScoreBoard scoreBoard = journaledBoard(settings)) {
+            scoreBoard.startNewMatch("Spain", "Brazil");
+            scoreBoard.updateMatchScore("Spain", 1, "Brazil", 0);
+            Files.delete(blocker);
+
+            // When-Then: the snapshot is not retried on the next change
+            scoreBoard.updateMatchScore("Spain", 2, "Brazil", 0);
+            assertFalse(Files.exists(snapshotFile));
+
+            // but after the backoff
+            scoreBoard.updateMatchScore("Spain", 3, "Brazil", 0);
+            assertTrue(Files.exists(snapshotFile));
+        }
+
+        try (ScoreBoard recovered = journaledBoard(settings)) {
+            assertEquals(List.of(new Match("Spain", 3, "Brazil", 0, true, KICK_OFF)), recovered.getSummary());
+        }
+    }
+
+    @Test
+    void recoverBatchAtomically() throws IOException {
+        // Given
+        try (ScoreBoard scoreBoard = journaledBoard(JournalSettings.of(directory))) {
+            scoreBoard.startNewMatch("Spain", "Brazil");
+            scoreBoard.apply(List.of(
+                MatchCommand.updateScore("Spain", 1, "Brazil", 0),
+                MatchCommand.startMatch("Mexico", "Canada")));
+        }
+
+        // When: crash in the middle of writing the last batch
+        Path journalFile = directory.resolve(Journal.JOURNAL_FILE);
+        byte[] journal = Files.readAllBytes(journalFile);
+        Files.write(journalFile, java.util.Arrays.copyOf(journal, journal.length - 5), StandardOpenOption.TRUNCATE_EXISTING);
+
+        // Then: the torn batch is dropped entirely, the board keeps working
+        try (ScoreBoard recovered = journaledBoard(JournalSettings.of(directory))) {
+            assertEquals(List.of(new Match("Spain", 0, "Brazil", 0, true, KICK_OFF)), recovered.getSummary());
+            assertEquals(1, recovered.getVersion());
+
+            recovered.startNewMatch("Mexico", "Canada");
+        }
+        try (ScoreBoard recovered = journaledBoard(JournalSettings.of(directory))) {
+            assertEquals(2, recovered.getSummary().size());
+        }
+    }
+
+    @Test
+    void rejectedChangesAreNotJournaled() {
+        try (ScoreBoard scoreBoard = journaledBoard(JournalSettings.of(directory))) {
+            scoreBoard.startNewMatch("Spain", "Brazil");
+            assertThrows(ScoreBoard.SportRadarException.class, () -> scoreBoard.apply(List.of(
+                MatchCommand.updateScore("Spain", 1, "Brazil", 0),
+                MatchCommand.finishMatch("Mexico", "Canada"))));
+        }
+
+        try (ScoreBoard recovered = journaledBoard(JournalSettings.of(directory))) {
+            assertEquals(List.of(new Match("Spain", 0, "Brazil", 0, true, KICK_OFF)), recovered.getSummary());
+        }
+    }
+
+    @Test
+    void recoverRetentionOfFinishedMatches() {
+        // Given
+        ScoreBoardTest.Summary.DynamicInstantSource instantSource = new ScoreBoardTest.Summary.DynamicInstantSource();
+        instantSource.setInstant(KICK_OFF);
+        ScoreBoard.Builder builder = ScoreBoard.builder()
+            .instantSource(instantSource)
+            .retentionPolicy(RetentionPolicy.keepFor(Duration.ofMinutes(10)))
+            .journal(JournalSettings.of(directory));
+        try (ScoreBoard scoreBoard = builder.build()) {
+            scoreBoard.startNewMatch("Spain", "Brazil");
+            scoreBoard.finishMatch("Spain", "Brazil");
+        }
+
+        // When-Then: the finish time is recovered
+        instantSource.setInstant(KICK_OFF.plus(Duration.ofMinutes(5)));
+        try (ScoreBoard recovered = builder.build()) {
+            assertEquals(List.of(new Match("Spain", 0, "Brazil", 0, false, KICK_OFF)), recovered.getRecentlyFinished());
+        }
+        instantSource.setInstant(KICK_OFF.plus(Duration.ofMinutes(10)));
+        try (ScoreBoard recovered = builder.build()) {
+            assertEquals(List.of(), recovered.getRecentlyFinished());
+            recovered.startNewMatch("Spain", "Brazil");
+        }
+    }
+
+    private static ScoreBoard journaledBoard(JournalSettings settings) {
+        return ScoreBoard.builder()
+            .instantSource(() -> KICK_OFF)
+            .journal(settings)
+            .build();
+    }
+}
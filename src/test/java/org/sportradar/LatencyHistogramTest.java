@@ -0,0 +1,68 @@
+package org.sportradar;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LatencyHistogramTest {
+
+    private final LatencyHistogram histogram = new LatencyHistogram();
+
+    @Test
+    void emptyHistogram() {
+        assertEquals(0, histogram.count());
+        assertEquals(0, histogram.percentile(99));
+        assertEquals(0.0, histogram.mean());
+    }
+
+    @Test
+    void exactSmallValues() {
+        // When
+        for (int value = 1; value <= 10; value++) {
+            histogram.record(value);
+        }
+
+        // Then
+        assertEquals(10, histogram.count());
+        assertEquals(5, histogram.percentile(50));
+        assertEquals(10, histogram.percentile(100));
+        assertEquals(5.5, histogram.mean());
+    }
+
+    @Test
+    void percentilesWithinRelativeError() {
+        // Given: 1 µs .. 1 ms
+        for (long value = 1_000; value <= 1_000_000; value += 1_000) {
+            histogram.record(value);
+        }
+
+        // Then: the error is below 1/16 of the value
+        for (double percentile : new double[]{50, 90, 99, 99.9}) {
+            long expected = (long) Math.ceil(percentile * 10) * 1_000;
+            long actual = histogram.percentile(percentile);
+            assertTrue(actual >= expected && actual < expected + expected / 16,
+                "p%s: expected ~%d, actual %d".formatted(percentile, expected, actual));
+        }
+        assertEquals(1_000_000, histogram.max());
+        assertEquals(1_000_000, histogram.percentile(100));
+    }
+
+    @Test
+    void extremeValues() {
+        // When
+        histogram.record(-5);
+        histogram.record(Long.MAX_VALUE);
+
+        // Then
+        assertEquals(0, histogram.percentile(50));
+        assertEquals(Long.MAX_VALUE, histogram.percentile(100));
+    }
+
+    @Test
+    void invalidPercentile() {
+        assertThrows(IllegalArgumentException.class, () -> histogram.percentile(101));
+        assertThrows(IllegalArgumentException.class, () -> histogram.percentile(-1));
+    }
+}
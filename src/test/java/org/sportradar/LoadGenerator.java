@@ -0,0 +1,278 @@
+package org.sportradar;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.sportradar.ScoreBoard.Match;
+import org.sportradar.ScoreBoardMetrics.Operation;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Drives a {@link ScoreBoard} with the feed adapters (writers) of a seeded {@link TournamentFeed} and the concurrent
+ * readers of the Summary, e.g. to soak test the board before an upgrade.
+ * <p>
+ * Every writer owns its slots of the matches and plays the rounds of the tournament until the duration elapses.
+ * The writers acknowledge every applied change, the readers check every Summary they read:
+ * <ul>
+ *     <li>the Summary is in the Summary order;</li>
+ *     <li>the version never goes back for a reader;</li>
+ *     <li>a change acknowledged before the read is visible: neither an older score, nor a finished Match,
+ *     nor a missing Match which isn't being finished.</li>
+ * </ul>
+ * The time of the board is a {@link SimulatedClock}, so the matches of the same seed have the same times
+ * within the order of the writes.
+ */
+final class LoadGenerator {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadGenerator.class);
+
+    private static final Instant KICK_OFF = Instant.parse("2026-06-11T19:00:00.00Z");
+    private static final int FINISHED = Integer.MAX_VALUE;
+    private static final long NOT_ACKNOWLEDGED = -1;
+    private static final int MAX_REPORTED_VIOLATIONS = 100;
+
+    /**
+     * @param seed          the seed of the feed
+     * @param matches       the number of the matches played at the same time
+     * @param writers       the number of the writers (feed adapters), every one owns {@code matches / writers} matches
+     * @param readers       the number of the readers of the Summary
+     * @param goalsPerMatch the average number of goals of a Match
+     * @param duration      how long to play the rounds, at least one round is played
+     */
+    record Settings(long seed, int matches, int writers, int readers, double goalsPerMatch, Duration duration) {
+
+        Settings {
+            if (matches < writers || writers < 1 || readers < 0)
+                throw new IllegalArgumentException("Every writer needs a Match: " + matches + " matches, " + writers + " writers");
+        }
+    }
+
+    /**
+     * @param violations the first detected violations, see {@link #violationCount()} for all of them
+     */
+    record Report(long rounds, long writes, long reads, Duration elapsed, RecordingMetrics metrics,
+                  long violationCount, List<String> violations) {
+
+        double writesPerSecond() {
+            return writes * 1e9 / Math.max(1, elapsed.toNanos());
+        }
+
+        double readsPerSecond() {
+            return reads * 1e9 / Math.max(1, elapsed.toNanos());
+        }
+
+        @Override
+        public String toString() {
+            LatencyHistogram updates = metrics.writes(Operation.UPDATE_SCORE);
+            LatencyHistogram lockWait = metrics.lockWait();
+            return """
+                    rounds: %d in %s
+                    writes: %d (%.0f/s), reads: %d (%.0f/s)
+                    updateMatchScore latency, µs: p50 %d, p99 %d, p99.9 %d, max %d
+                    lock wait, µs: p50 %d, p99 %d, p99.9 %d, max %d
+                    violations: %d %s"""
+                    .formatted(rounds, elapsed, writes, writesPerSecond(), reads, readsPerSecond(),
+                            micros(updates.percentile(50)), micros(updates.percentile(99)),
+                            micros(updates.percentile(99.9)), micros(updates.max()),
+                            micros(lockWait.percentile(50)), micros(lockWait.percentile(99)),
+                            micros(lockWait.percentile(99.9)), micros(lockWait.max()),
+                            violationCount, violations);
+        }
+
+        private static long micros(long nanos) {
+            return TimeUnit.NANOSECONDS.toMicros(nanos);
+        }
+    }
+
+    private final Settings settings;
+    private final RecordingMetrics metrics = new RecordingMetrics();
+    private final ScoreBoard scoreBoard;
+
+    // the last acknowledged change of the slot: the round in the high half, the total score (or FINISHED) in the low one
+    private final AtomicLongArray acknowledged;
+    // the last round of the slot whose finish has been submitted: a Match may leave the Summary before it's acknowledged
+    private final AtomicIntegerArray finishing;
+
+    private final AtomicBoolean writing = new AtomicBoolean(true);
+    private final LongAdder rounds = new LongAdder();
+    private final LongAdder writes = new LongAdder();
+    private final LongAdder reads = new LongAdder();
+    private final LongAdder violationCount = new LongAdder();
+    private final Queue<String> violations = new ConcurrentLinkedQueue<>();
+
+    LoadGenerator(Settings settings) {
+        this.settings = settings;
+        this.scoreBoard = ScoreBoard.builder()
+                .instantSource(new SimulatedClock(KICK_OFF, Duration.ofMillis(1)))
+                .retentionPolicy(RetentionPolicy.keepLast(settings.matches()))
+                .metrics(metrics)
+                .build();
+        this.acknowledged = new AtomicLongArray(settings.matches());
+        this.finishing = new AtomicIntegerArray(settings.matches());
+        for (int slot = 0; slot < settings.matches(); slot++) {
+            acknowledged.set(slot, NOT_ACKNOWLEDGED);
+            finishing.set(slot, -1);
+        }
+    }
+
+    static Report run(Settings settings) throws InterruptedException {
+        Report report = new LoadGenerator(settings).run();
+        log.info("Load of {}:\n{}", settings, report);
+        return report;
+    }
+
+    Report run() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(settings.writers() + settings.readers());
+        long start = System.nanoTime();
+        long deadline = start + settings.duration().toNanos();
+        try {
+            List<Future<?>> writers = new ArrayList<>();
+            for (int writer = 0; writer < settings.writers(); writer++) {
+                TournamentFeed feed = new TournamentFeed(settings.seed(), slots(writer), settings.goalsPerMatch());
+                writers.add(executor.submit(() -> write(feed, deadline)));
+            }
+            List<Future<?>> readers = new ArrayList<>();
+            for (int reader = 0; reader < settings.readers(); reader++) {
+                readers.add(executor.submit(this::read));
+            }
+
+            try {
+                await(writers);
+            } finally {
+                writing.set(false);
+            }
+            await(readers);
+        } finally {
+            executor.shutdownNow();
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+        return new Report(rounds.sum(), writes.sum(), reads.sum(), elapsed, metrics,
+                violationCount.sum(), List.copyOf(violations));
+    }
+
+    // the slots of the writer: every writer-th slot
+    private int[] slots(int writer) {
+        int[] slots = new int[(settings.matches() - writer + settings.writers() - 1) / settings.writers()];
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = writer + i * settings.writers();
+        }
+        return slots;
+    }
+
+    private void write(TournamentFeed feed, long deadline) {
+        int round = 0;
+        do {
+            for (MatchCommand command : feed.round(round)) {
+                int slot = slot(command.homeTeam());
+                if (command instanceof MatchCommand.StartMatch) {
+                    scoreBoard.startNewMatch(command.homeTeam(), command.awayTeam());
+                    acknowledge(slot, round, 0);
+                } else if (command instanceof MatchCommand.UpdateScore update) {
+                    Match match = scoreBoard.updateMatchScore(update.homeTeam(), update.homeTeamScore(),
+                            update.awayTeam(), update.awayTeamScore());
+                    acknowledge(slot, round, match.homeTeamScore() + match.awayTeamScore());
+                } else {
+                    finishing.set(slot, round);
+                    scoreBoard.finishMatch(command.homeTeam(), command.awayTeam());
+                    acknowledge(slot, round, FINISHED);
+                }
+                writes.increment();
+            }
+            rounds.increment();
+            round++;
+        } while (System.nanoTime() < deadline && !Thread.currentThread().isInterrupted());
+    }
+
+    private void acknowledge(int slot, int round, int totalScore) {
+        acknowledged.set(slot, (long) round << 32 | totalScore);
+    }
+
+    private void read() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long lastVersion = 0;
+        while (writing.get()) {
+            int slot = random.nextInt(settings.matches());
+            long acknowledgedChange = acknowledged.get(slot);
+            long version = scoreBoard.getVersion();
+            List<Match> summary = scoreBoard.getSummary();
+            reads.increment();
+
+            if (version < lastVersion) {
+                violation("version went back from %d to %d".formatted(lastVersion, version));
+            }
+            lastVersion = version;
+            checkOrder(summary);
+            if (acknowledgedChange != NOT_ACKNOWLEDGED) {
+                checkAcknowledged(summary, slot, (int) (acknowledgedChange >>> 32), (int) acknowledgedChange);
+            }
+        }
+    }
+
+    private void checkOrder(List<Match> summary) {
+        for (int i = 1; i < summary.size(); i++) {
+            Match previous = summary.get(i - 1);
+            Match match = summary.get(i);
+            int byScore = Integer.compare(total(previous), total(match));
+            if (byScore < 0 || byScore == 0 && previous.startedAt().isBefore(match.startedAt())) {
+                violation("%s is before %s in the Summary".formatted(previous, match));
+            }
+        }
+    }
+
+    private void checkAcknowledged(List<Match> summary, int slot, int round, int totalScore) {
+        String homeTeam = TournamentFeed.homeTeam(round, slot);
+        for (Match match : summary) {
+            if (!match.homeTeam().equals(homeTeam)) continue;
+            if (totalScore == FINISHED) {
+                violation("%s is in the Summary after its finish has been acknowledged".formatted(match));
+            } else if (total(match) < totalScore) {
+                violation("%s is in the Summary after the total score %d has been acknowledged".formatted(match, totalScore));
+            }
+            return;
+        }
+        // read after the Summary: the finish of the Match is published only after it has been submitted
+        if (totalScore != FINISHED && finishing.get(slot) < round) {
+            violation("%s is missing in the Summary after the total score %d has been acknowledged".formatted(homeTeam, totalScore));
+        }
+    }
+
+    private void violation(String violation) {
+        violationCount.increment();
+        if (violationCount.sum() <= MAX_REPORTED_VIOLATIONS) {
+            violations.add(violation);
+        }
+    }
+
+    private static int slot(String homeTeam) {
+        return Integer.parseInt(homeTeam.substring(homeTeam.indexOf('h') + 1));
+    }
+
+    private static int total(Match match) {
+        return match.homeTeamScore() + match.awayTeamScore();
+    }
+
+    private static void await(List<Future<?>> futures) throws InterruptedException {
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Load failed", e.getCause());
+            }
+        }
+    }
+}
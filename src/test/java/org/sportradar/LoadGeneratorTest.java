@@ -0,0 +1,49 @@
+package org.sportradar;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Multithreaded tests of the {@link ScoreBoard}: concurrent writers and readers driven by the {@link LoadGenerator}.
+ * <p>
+ * The soak test is excluded from the build: {@code ./gradlew soakTest -PsoakDuration=PT4H}.
+ */
+class LoadGeneratorTest {
+
+    @Test
+    void feedIsDeterministic() {
+        int[] slots = {0, 2, 4};
+
+        assertEquals(new TournamentFeed(42, slots, 3).round(7), new TournamentFeed(42, slots, 3).round(7));
+        assertNotEquals(new TournamentFeed(42, slots, 3).round(7), new TournamentFeed(43, slots, 3).round(7));
+    }
+
+    @Test
+    void concurrentWritersAndReaders() throws InterruptedException {
+        // When
+        LoadGenerator.Report report = LoadGenerator.run(
+                new LoadGenerator.Settings(42, 64, 4, 8, 3, Duration.ofMillis(200)));
+
+        // Then
+        assertEquals(0, report.violationCount(), report.violations()::toString);
+        assertTrue(report.rounds() >= 4);
+        assertTrue(report.reads() > 0);
+    }
+
+    @Test
+    @Tag("soak")
+    void soak() throws InterruptedException {
+        Duration duration = Duration.parse(System.getProperty("soak.duration", "PT1M"));
+
+        LoadGenerator.Report report = LoadGenerator.run(
+                new LoadGenerator.Settings(2026, 1024, 8, 32, 3, duration));
+
+        assertEquals(0, report.violationCount(), report.violations()::toString);
+    }
+}
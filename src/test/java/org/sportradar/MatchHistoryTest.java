@@ -0,0 +1,179 @@
+package org.sportradar;
+
+import org.junit.jupiter.api.Test;
+import org.sportradar.MatchEvent.MatchFinished;
+import org.sportradar.MatchEvent.MatchStarted;
+import org.sportradar.MatchEvent.ScoreUpdated;
+import org.sportradar.ScoreBoard.Match;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the history of the {@link ScoreBoard}: the timelines of the matches and the Summary at a point in time.
+ */
+class MatchHistoryTest {
+
+    private static final Instant KICK_OFF = Instant.parse("2024-12-12T20:00:00.00Z");
+
+    private final ScoreBoardTest.Summary.DynamicInstantSource instantSource = new ScoreBoardTest.Summary.DynamicInstantSource();
+    private final ScoreBoard scoreBoard = ScoreBoard.builder()
+            .instantSource(instantSource)
+            .retentionPolicy(RetentionPolicy.keepLast(0))
+            .history()
+            .build();
+
+    @Test
+    void timelineOfMatch() {
+        // Given
+        at(0);
+        scoreBoard.startNewMatch("Spain", "Brazil");
+        at(10);
+        scoreBoard.updateMatchScore("Spain", 1, "Brazil", 0);
+        at(90);
+        scoreBoard.finishMatch("Spain", "Brazil");
+
+        // and the teams play again once the finished Match is evicted
+        at(100);
+        scoreBoard.startNewMatch("Spain", "Brazil");
+
+        // When
+        List<TimelineEntry> timeline = scoreBoard.getTimeline("Spain", "Brazil");
+
+        // Then
+        Instant secondKickOff = time(100);
+        assertEquals(List.of(
+                new TimelineEntry(time(0), new MatchStarted(new Match("Spain", 0, "Brazil", 0, true, KICK_OFF))),
+                new TimelineEntry(time(10), new ScoreUpdated(
+                        new Match("Spain", 0, "Brazil", 0, true, KICK_OFF),
+                        new Match("Spain", 1, "Brazil", 0, true, KICK_OFF))),
+                new TimelineEntry(time(90), new MatchFinished(new Match("Spain", 1, "Brazil", 0, false, KICK_OFF))),
+                new TimelineEntry(secondKickOff, new MatchStarted(new Match("Spain", 0, "Brazil", 0, true, secondKickOff)))),
+                timeline);
+        assertEquals(List.of(), scoreBoard.getTimeline("Brazil", "Spain"));
+    }
+
+    @Test
+    void summaryAtPointInTime() {
+        // Given
+        at(0);
+        scoreBoard.startNewMatch("Spain", "Brazil");
+        at(5);
+        scoreBoard.startNewMatch("Mexico", "Canada");
+        at(10);
+        scoreBoard.updateMatchScore("Mexico", 0, "Canada", 1);
+        at(20);
+        scoreBoard.updateMatchScore("Spain", 2, "Brazil", 0);
+        at(30);
+        scoreBoard.finishMatch("Mexico", "Canada");
+
+        // When-Then
+        assertEquals(List.of(), scoreBoard.getSummaryAt(KICK_OFF.minusSeconds(1)));
+        assertEquals(List.of(
+                new Match("Mexico", 0, "Canada", 1, true, time(5)),
+                new Match("Spain", 0, "Brazil", 0, true, KICK_OFF)), scoreBoard.getSummaryAt(time(15)));
+        assertEquals(List.of(
+                new Match("Spain", 2, "Brazil", 0, true, KICK_OFF),
+                new Match("Mexico", 0, "Canada", 1, true, time(5))), scoreBoard.getSummaryAt(time(20)));
+        assertEquals(scoreBoard.getSummary(), scoreBoard.getSummaryAt(time(60)));
+    }
+
+    @Test
+    void summaryAtAcrossCheckpoints() {
+        // Given: several checkpoints of the history
+        at(0);
+        scoreBoard.startNewMatch("Spain", "Brazil");
+        scoreBoard.startNewMatch("Mexico", "Canada");
+        int goals = MatchHistory.CHECKPOINT_EVENTS * 3;
+        for (int goal = 1; goal <= goals; goal++) {
+            at(goal);
+            if (goal % 2 == 0) scoreBoard.updateMatchScore("Spain", goal / 2, "Brazil", 0);
+            else scoreBoard.updateMatchScore("Mexico", 0, "Canada", goal / 2 + 1);
+        }
+
+        // When-Then
+        assertEquals(List.of(
+                new Match("Mexico", 0, "Canada", 1000, true, KICK_OFF),
+                new Match("Spain", 999, "Brazil", 0, true, KICK_OFF)), scoreBoard.getSummaryAt(time(1999)));
+        assertEquals(List.of(
+                new Match("Spain", 1000, "Brazil", 0, true, KICK_OFF),
+                new Match("Mexico", 0, "Canada", 1000, true, KICK_OFF)), scoreBoard.getSummaryAt(time(2000)));
+    }
+
+    @Test
+    void clockGoingBackIsClamped() {
+        // Given
+        at(10);
+        scoreBoard.startNewMatch("Spain", "Brazil");
+        at(5);
+        scoreBoard.updateMatchScore("Spain", 1, "Brazil", 0);
+
+        // When-Then: the update is recorded as happened with the previous change
+        assertEquals(time(10), scoreBoard.getTimeline("Spain", "Brazil").get(1).at());
+        assertEquals(List.of(new Match("Spain", 1, "Brazil", 0, true, time(10))), scoreBoard.getSummaryAt(time(10)));
+    }
+
+    @Test
+    void summaryAtDoesNotWaitForRecord() throws Exception {
+        // Given: the writer is stalled in the middle of the record of a change
+        MatchHistory history = new MatchHistory();
+        Match started = new Match("Spain", 0, "Brazil", 0, true, KICK_OFF);
+        Match updated = started.updateScore(1, 0);
+        MatchEntry entry = new MatchEntry(new MatchKey("Spain", "Brazil"), 0, started);
+        history.record(List.of(new MatchChange(entry, null, started)), KICK_OFF);
+
+        CountDownLatch recording = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<MatchChange> stalling = new AbstractList<>() {
+            @Override
+            public MatchChange get(int index) {
+                recording.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return new MatchChange(entry, started, updated);
+            }
+
+            @Override
+            public int size() {
+                return 1;
+            }
+        };
+        Thread writer = new Thread(() -> history.record(stalling, time(10)));
+        writer.start();
+        assertTrue(recording.await(5, TimeUnit.SECONDS));
+
+        // When-Then: the Summary as of the last recorded changes
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> assertEquals(List.of(started), history.summaryAt(time(10))));
+
+        release.countDown();
+        writer.join();
+        assertEquals(List.of(updated), history.summaryAt(time(10)));
+    }
+
+    @Test
+    void historyIsNotRecordedByDefault() {
+        ScoreBoard board = new ScoreBoard();
+        assertThrows(IllegalStateException.class, () -> board.getSummaryAt(KICK_OFF));
+        assertThrows(IllegalStateException.class, () -> board.getTimeline("Spain", "Brazil"));
+    }
+
+    private void at(int seconds) {
+        instantSource.setInstant(time(seconds));
+    }
+
+    private static Instant time(int seconds) {
+        return KICK_OFF.plus(Duration.ofSeconds(seconds));
+    }
+}
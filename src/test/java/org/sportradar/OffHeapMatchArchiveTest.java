@@ -0,0 +1,176 @@
+package org.sportradar;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.sportradar.BoardStateCodec.BoardState;
+import org.sportradar.BoardStateCodec.MatchState;
+import org.sportradar.ScoreBoard.Match;
+import org.sportradar.ScoreBoard.SportRadarException;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests the {@link ScoreBoard} which keeps the finished matches off the heap: the behavior of the board is the same.
+ */
+class OffHeapMatchArchiveTest {
+
+    private static final Instant KICK_OFF = Instant.parse("2024-12-12T20:00:00.00Z");
+
+    private final ScoreBoardTest.Summary.DynamicInstantSource instantSource = new ScoreBoardTest.Summary.DynamicInstantSource();
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void finishedMatchesCanNotBeRunOrUpdated() {
+        // Given
+        ScoreBoard scoreBoard = archivedBoard(RetentionPolicy.keepAll()).build();
+        scoreBoard.startNewMatch("Spain", "Brazil");
+        scoreBoard.startNewMatch("Mexico", "Canada");
+        scoreBoard.updateMatchScore("Mexico", 0, "Canada", 5);
+
+        // When
+        scoreBoard.finishMatch("Mexico", "Canada");
+
+        // Then
+        assertEquals(List.of(new Match("Spain", 0, "Brazil", 0, true, KICK_OFF)), scoreBoard.getSummary());
+        assertThrows(SportRadarException.class, () -> scoreBoard.startNewMatch("Mexico", "Canada"));
+        assertThrows(SportRadarException.class, () -> scoreBoard.updateMatchScore("Mexico", 1, "Canada", 5));
+        assertThrows(SportRadarException.class, () -> scoreBoard.finishMatch("Mexico", "Canada"));
+    }
+
+    @Test
+    void recentlyFinishedAreMaterializedAndEvicted() {
+        // Given
+        ScoreBoard scoreBoard = archivedBoard(RetentionPolicy.keepLast(2)).build();
+        for (String team : List.of("Brazil", "Canada", "Italy")) {
+            scoreBoard.startNewMatch("Spain", team);
+            scoreBoard.updateMatchScore("Spain", 1, team, 0);
+            scoreBoard.finishMatch("Spain", team);
+        }
+
+        // When-Then: the most recently finished first, the earliest one is evicted
+        assertEquals(List.of(
+                new Match("Spain", 1, "Italy", 0, false, KICK_OFF),
+                new Match("Spain", 1, "Canada", 0, false, KICK_OFF)), scoreBoard.getRecentlyFinished());
+
+        // and its teams may play again
+        scoreBoard.startNewMatch("Spain", "Brazil");
+        assertThrows(SportRadarException.class, () -> scoreBoard.startNewMatch("Spain", "Italy"));
+    }
+
+    @Test
+    void recentlyFinishedAreMaterializedOncePerSummary() {
+        // Given
+        ScoreBoard scoreBoard = archivedBoard(RetentionPolicy.keepLast(2)).build();
+        scoreBoard.startNewMatch("Spain", "Brazil");
+        scoreBoard.finishMatch("Spain", "Brazil");
+
+        // When
+        List<Match> recentlyFinished = scoreBoard.getRecentlyFinished();
+
+        // Then: the same list till the next change
+        assertSame(recentlyFinished, scoreBoard.getRecentlyFinished());
+        scoreBoard.startNewMatch("Mexico", "Canada");
+        scoreBoard.finishMatch("Mexico", "Canada");
+        assertEquals(List.of(
+                new Match("Mexico", 0, "Canada", 0, false, KICK_OFF),
+                new Match("Spain", 0, "Brazil", 0, false, KICK_OFF)), scoreBoard.getRecentlyFinished());
+        assertEquals(List.of(new Match("Spain", 0, "Brazil", 0, false, KICK_OFF)), recentlyFinished);
+    }
+
+    @Test
+    void recentlyFinishedAreDecodedAsPublished() throws IOException {
+        try (ScoreBoardFollower follower = new ScoreBoardFollower(archivedBoard(RetentionPolicy.keepLast(5)))) {
+            // Given: the list is published, but not read yet
+            Match finished = new Match("Spain", 1, "Brazil", 0, false, KICK_OFF);
+            follower.accept(ReplicationFrames.encode(false, KICK_OFF, new BoardState(1, List.of(
+                    new MatchState(finished, KICK_OFF)))));
+            List<Match> published = follower.scoreBoard().getRecentlyFinished();
+
+            // When: the archived match is started again on the leader, then another one is finished
+            follower.accept(ReplicationFrames.encode(false, KICK_OFF, new BoardState(2, List.of(
+                    new MatchState(new Match("Spain", 0, "Brazil", 0, true, KICK_OFF), null)))));
+            follower.accept(ReplicationFrames.encode(false, KICK_OFF, new BoardState(3, List.of(
+                    new MatchState(new Match("Mexico", 2, "Canada", 0, false, KICK_OFF), KICK_OFF)))));
+
+            // Then: the first read decodes the matches as of the publication
+            assertEquals(List.of(finished), published);
+            assertEquals(List.of(new Match("Mexico", 2, "Canada", 0, false, KICK_OFF)),
+                    follower.scoreBoard().getRecentlyFinished());
+        }
+    }
+
+    @Test
+    void sequencedUpdatesOfArchivedMatchAreStale() {
+        // Given
+        ScoreBoard scoreBoard = archivedBoard(RetentionPolicy.keepAll()).build();
+        scoreBoard.startNewMatch("Spain", "Brazil");
+        scoreBoard.updateMatchScore("Spain", 1, "Brazil", 0, 10);
+        scoreBoard.finishMatch("Spain", "Brazil", 30);
+
+        // When-Then
+        assertFalse(scoreBoard.finishMatch("Spain", "Brazil", 30));
+        assertFalse(scoreBoard.updateMatchScore("Spain", 2, "Brazil", 0, 20));
+        assertEquals(2, scoreBoard.getStaleUpdates());
+        assertThrows(SportRadarException.class, () -> scoreBoard.updateMatchScore("Spain", 2, "Brazil", 0, 40));
+    }
+
+    @Test
+    void recoverArchivedMatches() {
+        // Given: the snapshot of the journal includes the archived matches
+        ScoreBoard.Builder builder = archivedBoard(RetentionPolicy.keepFor(Duration.ofMinutes(10)))
+                .journal(new JournalSettings(directory, 1, 2));
+        try (ScoreBoard scoreBoard = builder.build()) {
+            scoreBoard.startNewMatch("Spain", "Brazil");
+            scoreBoard.startNewMatch("Mexico", "Canada");
+            scoreBoard.finishMatch("Spain", "Brazil");
+            scoreBoard.updateMatchScore("Mexico", 1, "Canada", 0);
+        }
+
+        // When-Then
+        try (ScoreBoard recovered = builder.build()) {
+            assertEquals(List.of(new Match("Mexico", 1, "Canada", 0, true, KICK_OFF)), recovered.getSummary());
+            assertEquals(List.of(new Match("Spain", 0, "Brazil", 0, false, KICK_OFF)), recovered.getRecentlyFinished());
+            assertThrows(SportRadarException.class, () -> recovered.startNewMatch("Spain", "Brazil"));
+        }
+
+        instantSource.setInstant(KICK_OFF.plus(Duration.ofMinutes(10)));
+        try (ScoreBoard recovered = builder.build()) {
+            assertEquals(List.of(), recovered.getRecentlyFinished());
+            recovered.startNewMatch("Spain", "Brazil");
+        }
+    }
+
+    @Test
+    void releaseEvictedChunks() {
+        // Given: more finished matches than a chunk of records holds
+        ScoreBoard scoreBoard = archivedBoard(RetentionPolicy.keepLast(10)).build();
+        for (int i = 0; i < 20_000; i++) {
+            scoreBoard.startNewMatch("Home" + i, "Away" + i);
+            scoreBoard.finishMatch("Home" + i, "Away" + i);
+        }
+
+        // When-Then
+        assertEquals(10, scoreBoard.getRecentlyFinished().size());
+        assertEquals(new Match("Home19999", 0, "Away19999", 0, false, KICK_OFF), scoreBoard.getRecentlyFinished().get(0));
+        scoreBoard.startNewMatch("Home0", "Away0");
+    }
+
+    private ScoreBoard.Builder archivedBoard(RetentionPolicy retentionPolicy) {
+        instantSource.setInstant(KICK_OFF);
+        return ScoreBoard.builder()
+                .instantSource(instantSource)
+                .retentionPolicy(retentionPolicy)
+                .offHeapArchive();
+    }
+}
@@ -0,0 +1,176 @@
+package org.sportradar;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.sportradar.BoardStateCodec.BoardState;
+import org.sportradar.BoardStateCodec.MatchState;
+import org.sportradar.ScoreBoard.Match;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the {@link ScoreBoardFollower}s replicating a leading {@link ScoreBoard} over the {@link ReplicationTransport}s.
+ */
+class ReplicationTest {
+
+    private static final Instant KICK_OFF = Instant.parse("2024-12-12T20:00:00.00Z");
+
+    private final ScoreBoard leader = new ScoreBoard(() -> KICK_OFF);
+    private final ScoreBoardFollower follower = new ScoreBoardFollower(ScoreBoard.builder().instantSource(() -> KICK_OFF));
+
+    @AfterEach
+    void tearDown() {
+        follower.close();
+        leader.close();
+    }
+
+    @Test
+    void replicateInProcess() throws Exception {
+        try (ReplicationTransport transport = new InProcessReplication()) {
+            transport.publish(leader);
+            assertReplicated(transport);
+        }
+    }
+
+    @Test
+    void replicateOverLoopbackSocket() throws Exception {
+        try (SocketReplication leaderTransport = SocketReplication.loopback(0);
+             SocketReplication followerTransport = new SocketReplication(publish(leaderTransport))) {
+            assertReplicated(followerTransport);
+        }
+    }
+
+    @Test
+    void followerIsReadOnly() {
+        assertThrows(UnsupportedOperationException.class, () -> follower.scoreBoard().startNewMatch("Spain", "Brazil"));
+        assertThrows(UnsupportedOperationException.class,
+            () -> follower.scoreBoard().apply(List.of(MatchCommand.startMatch("Spain", "Brazil"))));
+    }
+
+    @Test
+    void resyncRemovesMatchesMissingOnLeader() throws IOException {
+        // Given
+        follower.accept(ReplicationFrames.encode(true, KICK_OFF, new BoardState(5, List.of(
+            new MatchState(new Match("Spain", 1, "Brazil", 0, true, KICK_OFF), null),
+            new MatchState(new Match("Mexico", 0, "Canada", 0, true, KICK_OFF), null)))));
+
+        // When: e.g. the follower has been disconnected while the leader has been restarted
+        follower.accept(ReplicationFrames.encode(true, KICK_OFF, new BoardState(2, List.of(
+            new MatchState(new Match("Mexico", 0, "Canada", 2, true, KICK_OFF), null)))));
+
+        // Then
+        assertEquals(List.of(new Match("Mexico", 0, "Canada", 2, true, KICK_OFF)), follower.getSummary());
+        assertEquals(2, follower.getVersion());
+    }
+
+    @Test
+    void resyncRemovesMatchesOfJournaledFollower(@TempDir Path directory) throws IOException {
+        ScoreBoard.Builder journaled = ScoreBoard.builder().instantSource(() -> KICK_OFF)
+            .journal(JournalSettings.of(directory));
+        try (ScoreBoardFollower journaledFollower = new ScoreBoardFollower(journaled)) {
+            // Given
+            journaledFollower.accept(ReplicationFrames.encode(true, KICK_OFF, new BoardState(5, List.of(
+                new MatchState(new Match("Spain", 1, "Brazil", 0, true, KICK_OFF), null),
+                new MatchState(new Match("Mexico", 0, "Canada", 0, true, KICK_OFF), null)))));
+
+            // When
+            journaledFollower.accept(ReplicationFrames.encode(true, KICK_OFF, new BoardState(6, List.of(
+                new MatchState(new Match("Mexico", 0, "Canada", 2, true, KICK_OFF), null)))));
+
+            // Then
+            assertEquals(List.of(new Match("Mexico", 0, "Canada", 2, true, KICK_OFF)), journaledFollower.getSummary());
+        }
+
+        // Then: the removed match isn't recovered from the journal
+        try (ScoreBoardFollower recovered = new ScoreBoardFollower(journaled)) {
+            assertEquals(List.of(new Match("Mexico", 0, "Canada", 2, true, KICK_OFF)), recovered.getSummary());
+        }
+    }
+
+    @Test
+    void keepPublishedFinishedMatchesOfRestartedMatch() throws IOException {
+        try (ScoreBoardFollower retaining = new ScoreBoardFollower(ScoreBoard.builder().instantSource(() -> KICK_OFF)
+                .retentionPolicy(RetentionPolicy.keepLast(5)))) {
+            // Given
+            Match finished = new Match("Spain", 1, "Brazil", 0, false, KICK_OFF);
+            retaining.accept(ReplicationFrames.encode(true, KICK_OFF, new BoardState(1, List.of(
+                new MatchState(new Match("Spain", 1, "Brazil", 0, true, KICK_OFF), null)))));
+            retaining.accept(ReplicationFrames.encode(false, KICK_OFF, new BoardState(2, List.of(
+                new MatchState(finished, KICK_OFF)))));
+            List<Match> published = retaining.scoreBoard().getRecentlyFinished();
+
+            // When: the match is evicted and started again on the leader, then another one is finished
+            retaining.accept(ReplicationFrames.encode(false, KICK_OFF, new BoardState(3, List.of(
+                new MatchState(new Match("Spain", 0, "Brazil", 0, true, KICK_OFF), null)))));
+            retaining.accept(ReplicationFrames.encode(false, KICK_OFF, new BoardState(4, List.of(
+                new MatchState(new Match("Mexico", 2, "Canada", 0, false, KICK_OFF), KICK_OFF)))));
+
+            // Then: the list returned before is not changed
+            assertEquals(List.of(finished), published);
+            assertEquals(List.of(new Match("Mexico", 2, "Canada", 0, false, KICK_OFF)),
+                retaining.scoreBoard().getRecentlyFinished());
+        }
+    }
+
+    @Test
+    void skipDuplicateChanges() throws IOException {
+        // Given
+        follower.accept(ReplicationFrames.encode(true, KICK_OFF, new BoardState(1, List.of(
+            new MatchState(new Match("Spain", 1, "Brazil", 0, true, KICK_OFF), null)))));
+
+        // When: the changes of the already known version
+        follower.accept(ReplicationFrames.encode(false, KICK_OFF, new BoardState(1, List.of(
+            new MatchState(new Match("Spain", 0, "Brazil", 0, true, KICK_OFF), null)))));
+
+        // Then
+        assertEquals(List.of(new Match("Spain", 1, "Brazil", 0, true, KICK_OFF)), follower.getSummary());
+    }
+
+    private void assertReplicated(ReplicationTransport followerTransport) throws Exception {
+        // Given: the follower joins the running leader
+        leader.startNewMatch("Spain", "Brazil");
+        leader.startNewMatch("Mexico", "Canada");
+        leader.finishMatch("Mexico", "Canada");
+        followerTransport.subscribe(follower);
+        awaitVersion(leader.getVersion());
+
+        // Then: the whole state
+        assertEquals(leader.getSummary(), follower.getSummary());
+        assertThrows(ScoreBoard.SportRadarException.class, () -> leader.startNewMatch("Mexico", "Canada"));
+
+        // When: the changes after the join
+        leader.updateMatchScore("Spain", 1, "Brazil", 0);
+        leader.startNewMatch("Uruguay", "Italy");
+        leader.updateMatchScore("Uruguay", 0, "Italy", 2);
+        awaitVersion(leader.getVersion());
+
+        // Then
+        assertEquals(leader.getSummary(), follower.getSummary());
+        assertEquals(leader.getChangesSince(4), follower.scoreBoard().getChangesSince(4));
+        assertFalse(follower.getReplicationLag().isNegative());
+    }
+
+    private void awaitVersion(long version) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (follower.getVersion() != version) {
+            assertTrue(System.nanoTime() < deadline, "Follower is at version " + follower.getVersion());
+            follower.scoreBoard().awaitChange(follower.getVersion(), Duration.ofMillis(100));
+        }
+    }
+
+    private InetSocketAddress publish(SocketReplication leaderTransport) throws IOException {
+        leaderTransport.publish(leader);
+        return leaderTransport.getLocalAddress();
+    }
+}
@@ -0,0 +1,119 @@
+package org.sportradar;
+
+import org.junit.jupiter.api.Test;
+import org.sportradar.ScoreBoard.Match;
+import org.sportradar.ScoreBoardRegistry.RankedMatch;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests the {@link ScoreBoardRegistry} class.
+ */
+class ScoreBoardRegistryTest {
+
+    private static final Instant KICK_OFF = Instant.parse("2024-12-12T20:00:00.00Z");
+
+    private final ScoreBoardRegistry registry =
+        new ScoreBoardRegistry(competition -> ScoreBoard.builder().instantSource(() -> KICK_OFF));
+
+    @Test
+    void competitionsAreSeparateBoards() {
+        ScoreBoard worldCup = registry.competition("World Cup");
+        ScoreBoard friendlies = registry.competition("Friendlies");
+
+        worldCup.startNewMatch("Spain", "Brazil");
+        // the same teams may play in another competition
+        friendlies.startNewMatch("Spain", "Brazil");
+
+        assertSame(worldCup, registry.competition("World Cup"));
+        assertNotSame(worldCup, friendlies);
+        assertEquals(Set.of("World Cup", "Friendlies"), registry.getCompetitions());
+    }
+
+    @Test
+    void validateCompetition() {
+        assertThrows(IllegalArgumentException.class, () -> registry.competition(" "));
+        assertThrows(IllegalArgumentException.class, () -> registry.competition(null));
+    }
+
+    @Test
+    void topOfAllCompetitions() {
+        // Given
+        ScoreBoard worldCup = registry.competition("World Cup");
+        ScoreBoard youth = registry.competition("Youth");
+        worldCup.startNewMatch("Spain", "Brazil");
+        worldCup.updateMatchScore("Spain", 3, "Brazil", 0);
+        worldCup.startNewMatch("Mexico", "Canada");
+        youth.startNewMatch("Spain U21", "Brazil U21");
+        youth.updateMatchScore("Spain U21", 1, "Brazil U21", 1);
+        youth.startNewMatch("Germany U21", "France U21");
+        youth.updateMatchScore("Germany U21", 5, "France U21", 0);
+        youth.finishMatch("Germany U21", "France U21");
+
+        // When
+        List<RankedMatch> top = registry.getTop(2);
+
+        // Then
+        assertEquals(List.of(
+            new RankedMatch("World Cup", new Match("Spain", 3, "Brazil", 0, true, KICK_OFF)),
+            new RankedMatch("Youth", new Match("Spain U21", 1, "Brazil U21", 1, true, KICK_OFF))), top);
+        assertEquals(3, registry.getTop(10).size());
+    }
+
+    @Test
+    void concurrentWritersOfDifferentCompetitions() throws Exception {
+        // Given
+        int competitions = 8;
+        int goals = 500;
+        ExecutorService writers = Executors.newFixedThreadPool(competitions);
+        try {
+            // When: every competition is written by its own thread
+            List<Future<?>> results = new ArrayList<>();
+            for (int c = 0; c < competitions; c++) {
+                ScoreBoard scoreBoard = registry.competition("competition-" + c);
+                results.add(writers.submit(() -> {
+                    for (int m = 0; m < 5; m++) {
+                        scoreBoard.startNewMatch("home-" + m, "away-" + m);
+                    }
+                    for (int goal = 1; goal <= goals; goal++) {
+                        int m = goal % 5;
+                        scoreBoard.updateMatchScore("home-" + m, goal, "away-" + m, 0);
+                    }
+                    scoreBoard.finishMatch("home-0", "away-0");
+                }));
+            }
+            for (Future<?> result : results) {
+                result.get(Duration.ofSeconds(30).toSeconds(), TimeUnit.SECONDS);
+            }
+        } finally {
+            writers.shutdownNow();
+        }
+
+        // Then: the global ranking is the merge of the Summaries of all the competitions
+        List<RankedMatch> expected = new ArrayList<>();
+        for (String competition : registry.getCompetitions()) {
+            for (Match match : registry.competition(competition).getSummary()) {
+                expected.add(new RankedMatch(competition, match));
+            }
+        }
+        expected.sort(Comparator.<RankedMatch>comparingInt(r -> r.match().homeTeamScore() + r.match().awayTeamScore())
+            .reversed()
+            .thenComparing(RankedMatch::competition)
+            .thenComparing(r -> r.match().homeTeam()));
+        assertEquals(expected, registry.getTop(Integer.MAX_VALUE));
+    }
+}
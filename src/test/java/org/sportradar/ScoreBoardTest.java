@@ -1,17 +1,44 @@
 package org.sportradar;
 
+import com.sun.management.HotSpotDiagnosticMXBean;
+import com.sun.management.ThreadMXBean;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.sportradar.ScoreBoard.Match;
 import org.sportradar.ScoreBoard.SportRadarException;
 
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.InstantSource;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 
 /**
@@ -86,6 +113,16 @@ class ScoreBoardTest {
                 () -> scoreBoard.startNewMatch("homeTeam", null));
         }
 
+        @Test
+        void validateTeamNameLength() {
+            ScoreBoard scoreBoard = new ScoreBoard();
+            String longest = "\u00e9".repeat(ScoreBoard.MAX_TEAM_NAME_BYTES / 2) + "a";
+
+            scoreBoard.startNewMatch(longest, "awayTeam");
+            assertThrows(IllegalArgumentException.class,
+                () -> scoreBoard.startNewMatch(longest + "a", "awayTeam"));
+        }
+
         @Test
         void validateTheSameTeams() {
             ScoreBoard scoreBoard = new ScoreBoard();
@@ -304,6 +341,61 @@ class ScoreBoardTest {
             assertEquals(expectedSummary, summary);
         }
 
+        @Test
+        void getSummary_reorderedOnScoreCorrection() {
+            // Given
+            runMatch("Mexico", 0, "Canada", 5, "2024-12-12T20:00:00.00Z");
+            runMatch("Spain", 10, "Brazil", 2, "2024-12-12T20:00:01.00Z");
+            runMatch("Germany", 2, "France", 2, "2024-12-12T20:00:02.00Z");
+
+            // When: the goals have been cancelled by VAR
+            scoreBoard.updateMatchScore("Spain", 1, "Brazil", 0);
+
+            // Then
+            List<Match> expectedSummary = List.of(
+                createMatch("Mexico", 0, "Canada", 5, "2024-12-12T20:00:00.00Z"),
+                createMatch("Germany", 2, "France", 2, "2024-12-12T20:00:02.00Z"),
+                createMatch("Spain", 1, "Brazil", 0, "2024-12-12T20:00:01.00Z")
+            );
+            assertEquals(expectedSummary, scoreBoard.getSummary());
+        }
+
+        @Test
+        void getSummary_keepsOrderUnderRandomChanges() {
+            // Given
+            Random random = new Random(42);
+            List<String> teams = new ArrayList<>();
+            for (int i = 0; i < 40; i++) {
+                teams.add("team-" + i);
+            }
+
+            for (int step = 0; step < 5_000; step++) {
+                // When: random start/update/finish operations
+                int pair = random.nextInt(teams.size() / 2);
+                String homeTeam = teams.get(pair * 2);
+                String awayTeam = teams.get(pair * 2 + 1);
+                instantSource.setInstant(Instant.parse("2024-12-12T20:00:00.00Z").plusSeconds(random.nextInt(3)));
+                try {
+                    switch (random.nextInt(10)) {
+                        case 0 -> scoreBoard.finishMatch(homeTeam, awayTeam);
+                        case 1, 2 -> scoreBoard.startNewMatch(homeTeam, awayTeam);
+                        default -> scoreBoard.updateMatchScore(homeTeam, random.nextInt(5), awayTeam, random.nextInt(5));
+                    }
+                } catch (SportRadarException ignored) {
+                    // expected for the finished or not started matches
+                }
+
+                // Then: the summary is the same as the one calculated from scratch
+                List<Match> summary = scoreBoard.getSummary();
+                List<Match> expectedSummary = summary.stream()
+                    .sorted(Comparator.<Match>comparingInt(match -> match.homeTeamScore() + match.awayTeamScore()).reversed()
+                        .thenComparing(Comparator.comparing(Match::startedAt).reversed()))
+                    .toList();
+                assertEquals(expectedSummary, summary);
+                assertTrue(summary.stream().allMatch(Match::isActive));
+            }
+        }
+
         private void runMatch(String homeTeam, int homeTeamScore, String awayTeam, int awayTeamScore, String startedAt) {
             instantSource.setInstant(Instant.parse(startedAt));
             this.scoreBoard.startNewMatch(homeTeam, awayTeam);
@@ -331,6 +423,1037 @@ class ScoreBoardTest {
         }
     }
 
+    @Nested
+    public class Retention {
+
+        private final Summary.DynamicInstantSource instantSource = new Summary.DynamicInstantSource();
+
+        @Test
+        void keepAllFinishedMatchesByDefault() {
+            ScoreBoard scoreBoard = new ScoreBoard(() -> Instant.parse("2024-12-12T20:00:00.00Z"));
+            scoreBoard.startNewMatch("Spain", "Brazil");
+            scoreBoard.finishMatch("Spain", "Brazil");
+
+            assertEquals(List.of(), scoreBoard.getRecentlyFinished());
+            assertThrows(SportRadarException.class, () -> scoreBoard.startNewMatch("Spain", "Brazil"));
+        }
+
+        @Test
+        void keepFinishedMatchesForGracePeriod() {
+            // Given
+            ScoreBoard scoreBoard = ScoreBoard.builder()
+                .instantSource(instantSource)
+                .retentionPolicy(RetentionPolicy.keepFor(Duration.ofMinutes(10)))
+                .build();
+            instantSource.setInstant(Instant.parse("2024-12-12T20:00:00.00Z"));
+            scoreBoard.startNewMatch("Spain", "Brazil");
+            scoreBoard.startNewMatch("Mexico", "Canada");
+            instantSource.setInstant(Instant.parse("2024-12-12T21:45:00.00Z"));
+            scoreBoard.finishMatch("Spain", "Brazil");
+
+            // When: within the grace period
+            instantSource.setInstant(Instant.parse("2024-12-12T21:50:00.00Z"));
+            scoreBoard.updateMatchScore("Mexico", 1, "Canada", 0);
+
+            // Then: the finished match is still shown
+            assertEquals(List.of(new Match("Spain", 0, "Brazil", 0, false, Instant.parse("2024-12-12T20:00:00.00Z"))),
+                scoreBoard.getRecentlyFinished());
+            assertThrows(SportRadarException.class, () -> scoreBoard.startNewMatch("Spain", "Brazil"));
+
+            // When: the grace period is over
+            instantSource.setInstant(Instant.parse("2024-12-12T21:55:00.00Z"));
+            scoreBoard.updateMatchScore("Mexico", 2, "Canada", 0);
+
+            // Then: the finished match is evicted and forgotten
+            assertEquals(List.of(), scoreBoard.getRecentlyFinished());
+            scoreBoard.startNewMatch("Spain", "Brazil");
+        }
+
+        @Test
+        void keepLastFinishedMatches() {
+            // Given
+            instantSource.setInstant(Instant.parse("2024-12-12T20:00:00.00Z"));
+            ScoreBoard scoreBoard = ScoreBoard.builder()
+                .instantSource(instantSource)
+                .retentionPolicy(RetentionPolicy.keepLast(2))
+                .build();
+
+            // When
+            for (String team : List.of("Spain", "Mexico", "Uruguay")) {
+                scoreBoard.startNewMatch(team, "Brazil");
+                scoreBoard.finishMatch(team, "Brazil");
+            }
+
+            // Then: the most recently finished first
+            assertEquals(List.of(
+                new Match("Uruguay", 0, "Brazil", 0, false, Instant.parse("2024-12-12T20:00:00.00Z")),
+                new Match("Mexico", 0, "Brazil", 0, false, Instant.parse("2024-12-12T20:00:00.00Z"))
+            ), scoreBoard.getRecentlyFinished());
+            scoreBoard.startNewMatch("Spain", "Brazil");
+        }
+
+        @Test
+        void keepPublishedFinishedMatchesUnchanged() {
+            // Given
+            instantSource.setInstant(Instant.parse("2024-12-12T20:00:00.00Z"));
+            ScoreBoard scoreBoard = ScoreBoard.builder()
+                .instantSource(instantSource)
+                .retentionPolicy(RetentionPolicy.keepLast(3))
+                .build();
+            scoreBoard.startNewMatch("Spain", "Brazil");
+            scoreBoard.finishMatch("Spain", "Brazil");
+            List<Match> published = scoreBoard.getRecentlyFinished();
+
+            // When: the published one is evicted and the kept ones are moved many times
+            for (int i = 0; i < 100; i++) {
+                scoreBoard.startNewMatch("Team " + i, "Brazil");
+                scoreBoard.finishMatch("Team " + i, "Brazil");
+            }
+
+            // Then
+            assertEquals(List.of(new Match("Spain", 0, "Brazil", 0, false, Instant.parse("2024-12-12T20:00:00.00Z"))),
+                published);
+            assertEquals(List.of("Team 99", "Team 98", "Team 97"),
+                scoreBoard.getRecentlyFinished().stream().map(Match::homeTeam).toList());
+        }
+
+        @Test
+        void keepFinishedMatchesOnRolledBackBatch() {
+            // Given
+            instantSource.setInstant(Instant.parse("2024-12-12T20:00:00.00Z"));
+            ScoreBoard scoreBoard = ScoreBoard.builder()
+                .instantSource(instantSource)
+                .retentionPolicy(RetentionPolicy.keepLast(1))
+                .build();
+            scoreBoard.startNewMatch("Spain", "Brazil");
+            scoreBoard.startNewMatch("Mexico", "Canada");
+            scoreBoard.finishMatch("Spain", "Brazil");
+
+            // When
+            assertThrows(SportRadarException.class, () -> scoreBoard.apply(List.of(
+                MatchCommand.finishMatch("Mexico", "Canada"),
+                MatchCommand.finishMatch("Mexico", "Canada"))));
+
+            // Then
+            assertEquals(List.of(new Match("Spain", 0, "Brazil", 0, false, Instant.parse("2024-12-12T20:00:00.00Z"))),
+                scoreBoard.getRecentlyFinished());
+            assertThrows(SportRadarException.class, () -> scoreBoard.startNewMatch("Spain", "Brazil"));
+        }
+    }
+
+    @Nested
+    public class Views {
+
+        private static final Instant KICK_OFF = Instant.parse("2024-12-12T20:00:00.00Z");
+
+        private final ScoreBoard scoreBoard = ScoreBoard.builder()
+            .instantSource(() -> KICK_OFF)
+            .group("Group A", match -> Set.of("Spain", "Brazil", "Mexico", "Canada").contains(match.homeTeam()))
+            .build();
+
+        @Test
+        void getTopOfSummary() {
+            // Given
+            scoreBoard.startNewMatch("Spain", "Brazil");
+            scoreBoard.startNewMatch("Mexico", "Canada");
+            scoreBoard.startNewMatch("Germany", "France");
+            scoreBoard.updateMatchScore("Germany", 2, "France", 2);
+
+            // When
+            List<Match> top = scoreBoard.getTop(2);
+
+            // Then
+            assertEquals(scoreBoard.getSummary().subList(0, 2), top);
+            assertEquals("Germany", top.get(0).homeTeam());
+            assertEquals(scoreBoard.getSummary(), scoreBoard.getTop(10));
+            assertEquals(List.of(), scoreBoard.getTop(0));
+            assertThrows(UnsupportedOperationException.class, () -> top.remove(0));
+            assertThrows(IllegalArgumentException.class, () -> scoreBoard.getTop(-1));
+        }
+
+        @Test
+        void getMatchesForTeam() {
+            // Given
+            scoreBoard.startNewMatch("Spain", "Brazil");
+            scoreBoard.startNewMatch("Mexico", "Spain");
+            scoreBoard.startNewMatch("Germany", "France");
+
+            // When
+            scoreBoard.updateMatchScore("Spain", 1, "Brazil", 0);
+
+            // Then: the matches of the team as the home and the away team in the Summary order
+            assertEquals(List.of(
+                new Match("Spain", 1, "Brazil", 0, true, KICK_OFF),
+                new Match("Mexico", 0, "Spain", 0, true, KICK_OFF)
+            ), scoreBoard.getMatchesForTeam("Spain"));
+            assertEquals(List.of(new Match("Spain", 1, "Brazil", 0, true, KICK_OFF)),
+                scoreBoard.getMatchesForTeam("Brazil"));
+            assertEquals(List.of(), scoreBoard.getMatchesForTeam("Uruguay"));
+
+            // When
+            scoreBoard.finishMatch("Spain", "Brazil");
+
+            // Then: only the matches in progress
+            assertEquals(List.of(new Match("Mexico", 0, "Spain", 0, true, KICK_OFF)),
+                scoreBoard.getMatchesForTeam("Spain"));
+            assertEquals(List.of(), scoreBoard.getMatchesForTeam("Brazil"));
+        }
+
+        @Test
+        void teamViewIsBuiltOnFirstRead() {
+            // Given: the team hasn't played yet
+            assertEquals(List.of(), scoreBoard.getMatchesForTeam("Spain"));
+            scoreBoard.startNewMatch("Spain", "Brazil");
+            scoreBoard.startNewMatch("Mexico", "Spain");
+
+            // When: the first read of the team after its matches have been started
+            List<Match> matches = scoreBoard.getMatchesForTeam("Spain");
+
+            // Then: in the Summary order
+            assertEquals(List.of(
+                new Match("Spain", 0, "Brazil", 0, true, KICK_OFF),
+                new Match("Mexico", 0, "Spain", 0, true, KICK_OFF)
+            ), matches);
+
+            // and the view is maintained from now on
+            scoreBoard.finishMatch("Mexico", "Spain");
+            scoreBoard.finishMatch("Spain", "Brazil");
+            assertEquals(List.of(), scoreBoard.getMatchesForTeam("Spain"));
+            scoreBoard.startNewMatch("Spain", "Italy");
+            assertEquals(List.of(new Match("Spain", 0, "Italy", 0, true, KICK_OFF)), scoreBoard.getMatchesForTeam("Spain"));
+        }
+
+        @Test
+        void getGroup() {
+            // Given
+            scoreBoard.startNewMatch("Spain", "Brazil");
+            scoreBoard.startNewMatch("Germany", "France");
+            scoreBoard.startNewMatch("Mexico", "Canada");
+
+            // When
+            scoreBoard.updateMatchScore("Mexico", 0, "Canada", 1);
+
+            // Then
+            assertEquals(List.of(
+                new Match("Mexico", 0, "Canada", 1, true, KICK_OFF),
+                new Match("Spain", 0, "Brazil", 0, true, KICK_OFF)
+            ), scoreBoard.getGroup("Group A"));
+
+            // When
+            scoreBoard.finishMatch("Mexico", "Canada");
+
+            // Then
+            assertEquals(List.of(new Match("Spain", 0, "Brazil", 0, true, KICK_OFF)), scoreBoard.getGroup("Group A"));
+            assertThrows(IllegalArgumentException.class, () -> scoreBoard.getGroup("Group B"));
+        }
+
+        @Test
+        void groupAlreadyExists() {
+            ScoreBoard.Builder builder = ScoreBoard.builder().group("Group A", match -> true);
+
+            assertThrows(IllegalArgumentException.class, () -> builder.group("Group A", match -> false));
+        }
+
+        @Test
+        void viewsAreNotChangedByRolledBackBatch() {
+            // Given
+            scoreBoard.startNewMatch("Spain", "Brazil");
+
+            // When
+            assertThrows(SportRadarException.class, () -> scoreBoard.apply(List.of(
+                MatchCommand.updateScore("Spain", 3, "Brazil", 0),
+                MatchCommand.finishMatch("Mexico", "Canada"))));
+
+            // Then
+            assertEquals(List.of(new Match("Spain", 0, "Brazil", 0, true, KICK_OFF)),
+                scoreBoard.getMatchesForTeam("Spain"));
+            assertEquals(scoreBoard.getSummary(), scoreBoard.getGroup("Group A"));
+        }
+    }
+
+    @Nested
+    public class Allocation {
+
+        private static final int LIVE_MATCHES = 1_000;
+
+        private final ScoreBoard scoreBoard = new ScoreBoard(() -> Instant.parse("2024-12-12T20:00:00.00Z"));
+        private final String[] homeTeams = new String[LIVE_MATCHES];
+        private final String[] awayTeams = new String[LIVE_MATCHES];
+
+        @Test
+        void updateMatchScoreAllocatesOnlyPublishedSummary() {
+            ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+            assumeTrue(threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled());
+
+            // Given
+            for (int i = 0; i < LIVE_MATCHES; i++) {
+                homeTeams[i] = "Home " + i;
+                awayTeams[i] = "Away " + i;
+                scoreBoard.startNewMatch(homeTeams[i], awayTeams[i]);
+            }
+            updateScores(100_000); // warm up
+
+            // When
+            int updates = 20_000;
+            long before = threads.getCurrentThreadAllocatedBytes();
+            updateScores(updates);
+            long allocatedPerUpdate = (threads.getCurrentThreadAllocatedBytes() - before) / updates;
+
+            // Then: the array of the published Summary (a reference per match) and a small constant
+            // for the new Match, the snapshot, the views of the teams and the lists wrapping the arrays
+            long budget = (long) referenceSize() * LIVE_MATCHES + 1024;
+            assertTrue(allocatedPerUpdate <= budget,
+                "Allocated %d bytes per update, the budget is %d".formatted(allocatedPerUpdate, budget));
+        }
+
+        private void updateScores(int updates) {
+            for (int n = 0; n < updates; n++) {
+                int i = n % LIVE_MATCHES;
+                scoreBoard.updateMatchScore(homeTeams[i], n / LIVE_MATCHES % 10, awayTeams[i], 0);
+            }
+        }
+
+        private static int referenceSize() {
+            HotSpotDiagnosticMXBean hotSpot = ManagementFactory.getPlatformMXBean(HotSpotDiagnosticMXBean.class);
+            return Boolean.parseBoolean(hotSpot.getVMOption("UseCompressedOops").getValue()) ? 4 : 8;
+        }
+    }
+
+    @Nested
+    public class Metrics {
+
+        private final RecordingMetrics metrics = new RecordingMetrics();
+        private final ScoreBoard scoreBoard = ScoreBoard.builder()
+            .instantSource(() -> Instant.parse("2024-12-12T20:00:00.00Z"))
+            .metrics(metrics)
+            .build();
+
+        @Test
+        void recordOperations() {
+            // When
+            scoreBoard.startNewMatch("Spain", "Brazil");
+            scoreBoard.startNewMatch("Mexico", "Canada");
+            scoreBoard.updateMatchScore("Spain", 1, "Brazil", 0);
+            scoreBoard.finishMatch("Mexico", "Canada");
+            scoreBoard.apply(List.of(MatchCommand.updateScore("Spain", 2, "Brazil", 0)));
+            scoreBoard.getSummary();
+            scoreBoard.getSummary();
+
+            // Then
+            assertEquals(2, metrics.writes(ScoreBoardMetrics.Operation.START_MATCH).count());
+            assertEquals(1, metrics.writes(ScoreBoardMetrics.Operation.UPDATE_SCORE).count());
+            assertEquals(1, metrics.writes(ScoreBoardMetrics.Operation.FINISH_MATCH).count());
+            assertEquals(1, metrics.writes(ScoreBoardMetrics.Operation.APPLY).count());
+            assertEquals(5, metrics.lockWait().count());
+            assertEquals(5, metrics.summaryPublish().count());
+            assertEquals(2, metrics.summaryReads());
+            assertEquals(1, metrics.liveMatches());
+        }
+
+        @Test
+        void recordFailedOperations() {
+            // When
+            assertThrows(SportRadarException.class, () -> scoreBoard.updateMatchScore("Spain", 1, "Brazil", 0));
+
+            // Then: the operation is timed, nothing is published
+            assertEquals(1, metrics.writes(ScoreBoardMetrics.Operation.UPDATE_SCORE).count());
+            assertEquals(0, metrics.summaryPublish().count());
+        }
+    }
+
+    @Nested
+    public class SequencedUpdates {
+
+        private static final Instant KICK_OFF = Instant.parse("2024-12-12T20:00:00.00Z");
+
+        private final ScoreBoard scoreBoard = new ScoreBoard(() -> KICK_OFF);
+
+        @Test
+        void dropDuplicateAndLateUpdates() {
+            // Given
+            scoreBoard.startNewMatch("Spain", "Brazil");
+            assertTrue(scoreBoard.updateMatchScore("Spain", 1, "Brazil", 0, 10));
+            assertTrue(scoreBoard.updateMatchScore("Spain", 2, "Brazil", 0, 20));
+            long version = scoreBoard.getVersion();
+
+            // When: redelivered and reordered updates
+            boolean duplicate = scoreBoard.updateMatchScore("Spain", 2, "Brazil", 0, 20);
+            boolean late = scoreBoard.updateMatchScore("Spain", 1, "Brazil", 0, 10);
+
+            // Then: the score is not rolled back, the Summary is not republished
+            assertFalse(duplicate);
+            assertFalse(late);
+            assertEquals(List.of(new Match("Spain", 2, "Brazil", 0, true, KICK_OFF)), scoreBoard.getSummary());
+            assertEquals(version, scoreBoard.getVersion());
+            assertEquals(2, scoreBoard.getStaleUpdates());
+        }
+
+        @Test
+        void dropRetriedFinishAndLateUpdates() {
+            // Given
+            scoreBoard.startNewMatch("Spain", "Brazil");
+            scoreBoard.updateMatchScore("Spain", 1, "Brazil", 0, 10);
+            assertTrue(scoreBoard.finishMatch("Spain", "Brazil", 30));
+
+            // When
+            boolean retriedFinish = scoreBoard.finishMatch("Spain", "Brazil", 30);
+            boolean lateUpdate = scoreBoard.updateMatchScore("Spain", 2, "Brazil", 0, 20);
+
+            // Then
+            assertFalse(retriedFinish);
+            assertFalse(lateUpdate);
+            assertEquals(List.of(), scoreBoard.getSummary());
+
+            // the updates after the finish are still rejected
+            assertThrows(SportRadarException.class, () -> scoreBoard.updateMatchScore("Spain", 2, "Brazil", 0, 40));
+        }
+
+        @Test
+        void publishedUpdateKeepsSequenceWhenListenerFails() {
+            // Given
+            AtomicBoolean failing = new AtomicBoolean();
+            ScoreBoard failingBoard = ScoreBoard.builder()
+                .instantSource(() -> KICK_OFF)
+                .changeListener(changes -> {
+                    if (failing.get()) throw new IllegalStateException("listener failed");
+                })
+                .build();
+            failingBoard.startNewMatch("Spain", "Brazil");
+            failing.set(true);
+
+            // When: the update is published, only the listener fails
+            assertThrows(IllegalStateException.class, () -> failingBoard.updateMatchScore("Spain", 1, "Brazil", 0, 10));
+
+            // Then: the redelivered update is a duplicate
+            failing.set(false);
+            assertFalse(failingBoard.updateMatchScore("Spain", 1, "Brazil", 0, 10));
+            assertEquals(List.of(new Match("Spain", 1, "Brazil", 0, true, KICK_OFF)), failingBoard.getSummary());
+            assertEquals(1, failingBoard.getStaleUpdates());
+        }
+
+        @Test
+        void unknownMatchIsNotStale() {
+            assertThrows(SportRadarException.class, () -> scoreBoard.updateMatchScore("Spain", 1, "Brazil", 0, 10));
+            assertThrows(SportRadarException.class, () -> scoreBoard.finishMatch("Spain", "Brazil", 10));
+            assertEquals(0, scoreBoard.getStaleUpdates());
+        }
+
+        @Test
+        void concurrentReplayAppliesOnlyNewestUpdate() throws Exception {
+            // Given
+            scoreBoard.startNewMatch("Spain", "Brazil");
+            int feeds = 4;
+            int updates = 1_000;
+
+            // When: every feed replays the same updates
+            ExecutorService executor = Executors.newFixedThreadPool(feeds);
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> replays = new ArrayList<>();
+            for (int feed = 0; feed < feeds; feed++) {
+                replays.add(executor.submit(() -> {
+                    start.await();
+                    for (int sequence = 1; sequence <= updates; sequence++) {
+                        scoreBoard.updateMatchScore("Spain", sequence, "Brazil", 0, sequence);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> replay : replays) {
+                replay.get(10, TimeUnit.SECONDS);
+            }
+            executor.shutdown();
+
+            // Then: every update is applied once at most, the newest one wins
+            assertEquals(updates, scoreBoard.getSummary().get(0).homeTeamScore());
+            assertTrue(scoreBoard.getVersion() <= 1 + updates);
+            assertEquals((long) feeds * updates, scoreBoard.getVersion() - 1 + scoreBoard.getStaleUpdates());
+        }
+    }
+
+    @Nested
+    public class AwaitChange {
+
+        private final ScoreBoard scoreBoard = new ScoreBoard(() -> Instant.parse("2024-12-12T20:00:00.00Z"));
+
+        @Test
+        void returnAtOnceIfVersionIsNotCurrent() throws InterruptedException {
+            // Given
+            scoreBoard.startNewMatch("Spain", "Brazil");
+
+            // When
+            SummaryChanges changes = scoreBoard.awaitChange(0, Duration.ofDays(1));
+
+            // Then
+            assertEquals(1, changes.version());
+            assertEquals(scoreBoard.getSummary(), changes.added());
+        }
+
+        @Test
+        void returnNoChangesOnTimeout() throws InterruptedException {
+            // Given
+            scoreBoard.startNewMatch("Spain", "Brazil");
+
+            // When
+            SummaryChanges changes = scoreBoard.awaitChange(1, Duration.ofMillis(50));
+
+            // Then
+            assertTrue(changes.isEmpty());
+            assertEquals(1, changes.version());
+        }
+
+        @Test
+        void wakeUpOnNextSummary() throws Exception {
+            // Given
+            scoreBoard.startNewMatch("Spain", "Brazil");
+            ExecutorService executor = Executors.newSingleThreadExecutor();
+            Future<SummaryChanges> waiter = executor.submit(() -> scoreBoard.awaitChange(1, Duration.ofSeconds(10)));
+
+            // When
+            Thread.sleep(50);
+            scoreBoard.updateMatchScore("Spain", 1, "Brazil", 0);
+
+            // Then
+            SummaryChanges changes = waiter.get(5, TimeUnit.SECONDS);
+            assertEquals(2, changes.version());
+            assertEquals(scoreBoard.getSummary(), changes.changed());
+            executor.shutdown();
+        }
+
+        @Test
+        void wakeUpManyPlatformThreads() throws Exception {
+            ExecutorService executor = Executors.newFixedThreadPool(64);
+            try {
+                allWaitersGetChange(executor, 64);
+            } finally {
+                executor.shutdown();
+            }
+        }
+
+        // JDK 21+: the virtual threads are looked up reflectively to keep the build on Java 17
+        @Test
+        void wakeUpHundredThousandVirtualThreads() throws Exception {
+            ExecutorService executor;
+            try {
+                executor = (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            } catch (NoSuchMethodException e) {
+                assumeTrue(false, "Virtual threads are not supported by " + Runtime.version());
+                return;
+            }
+            try {
+                allWaitersGetChange(executor, 100_000);
+            } finally {
+                executor.shutdown();
+            }
+        }
+
+        private void allWaitersGetChange(ExecutorService executor, int waiters) throws Exception {
+            // Given
+            scoreBoard.startNewMatch("Spain", "Brazil");
+            long version = scoreBoard.getVersion();
+            CountDownLatch started = new CountDownLatch(waiters);
+            List<Future<SummaryChanges>> changes = new ArrayList<>(waiters);
+            for (int i = 0; i < waiters; i++) {
+                changes.add(executor.submit(() -> {
+                    started.countDown();
+                    return scoreBoard.awaitChange(version, Duration.ofSeconds(30));
+                }));
+            }
+            assertTrue(started.await(30, TimeUnit.SECONDS));
+
+            // When
+            scoreBoard.updateMatchScore("Spain", 1, "Brazil", 0);
+
+            // Then: every waiter gets the change, nobody waits for the timeout
+            for (Future<SummaryChanges> change : changes) {
+                assertEquals(version + 1, change.get(30, TimeUnit.SECONDS).version());
+            }
+        }
+    }
+
+    @Nested
+    public class Batch {
+
+        private final ScoreBoard scoreBoard = new ScoreBoard(() -> Instant.parse("2024-12-12T20:00:00.00Z"));
+
+        @Test
+        void applyAllCommands() {
+            // Given
+            long version = scoreBoard.getVersion();
+
+            // When
+            List<Match> matches = scoreBoard.apply(List.of(
+                MatchCommand.startMatch("Spain", "Brazil"),
+                MatchCommand.startMatch("Mexico", "Canada"),
+                MatchCommand.updateScore("Mexico", 0, "Canada", 5)));
+
+            // Then: all the changes are published as a single Summary
+            assertEquals(List.of(
+                createMatch("Spain", 0, "Brazil", 0, "2024-12-12T20:00:00.00Z"),
+                createMatch("Mexico", 0, "Canada", 0, "2024-12-12T20:00:00.00Z"),
+                createMatch("Mexico", 0, "Canada", 5, "2024-12-12T20:00:00.00Z")), matches);
+            assertEquals(List.of(
+                createMatch("Mexico", 0, "Canada", 5, "2024-12-12T20:00:00.00Z"),
+                createMatch("Spain", 0, "Brazil", 0, "2024-12-12T20:00:00.00Z")), scoreBoard.getSummary());
+            assertEquals(version + 1, scoreBoard.getVersion());
+        }
+
+        @Test
+        void applyNothingOnFailedCommand() {
+            // Given
+            scoreBoard.startNewMatch("Spain", "Brazil");
+            scoreBoard.startNewMatch("Mexico", "Canada");
+            List<Match> summary = scoreBoard.getSummary();
+            long version = scoreBoard.getVersion();
+
+            // When: the last command fails
+            assertThrows(SportRadarException.class, () -> scoreBoard.apply(List.of(
+                MatchCommand.updateScore("Spain", 3, "Brazil", 0),
+                MatchCommand.finishMatch("Mexico", "Canada"),
+                MatchCommand.startMatch("Uruguay", "Italy"),
+                MatchCommand.updateScore("Germany", 1, "France", 0))));
+
+            // Then: nothing has been applied
+            assertEquals(summary, scoreBoard.getSummary());
+            assertEquals(version, scoreBoard.getVersion());
+
+            // and the board keeps working as if the batch has never been applied
+            scoreBoard.startNewMatch("Uruguay", "Italy");
+            scoreBoard.updateMatchScore("Mexico", 0, "Canada", 1);
+            assertEquals(List.of(
+                createMatch("Mexico", 0, "Canada", 1, "2024-12-12T20:00:00.00Z"),
+                createMatch("Spain", 0, "Brazil", 0, "2024-12-12T20:00:00.00Z"),
+                createMatch("Uruguay", 0, "Italy", 0, "2024-12-12T20:00:00.00Z")), scoreBoard.getSummary());
+        }
+
+        @Test
+        void validateCommandsBeforeApply() {
+            assertThrows(IllegalArgumentException.class, () -> scoreBoard.apply(List.of(
+                MatchCommand.startMatch("Spain", "Brazil"),
+                MatchCommand.startMatch("Mexico", "Mexico"))));
+            assertThrows(SportRadarException.class, () -> scoreBoard.apply(List.of(
+                MatchCommand.startMatch("Spain", "Brazil"),
+                MatchCommand.updateScore("Spain", -1, "Brazil", 0))));
+
+            assertEquals(List.of(), scoreBoard.getSummary());
+        }
+
+        @Test
+        void validateCommandsAgainstPreviousCommands() {
+            assertThrows(SportRadarException.class, () -> scoreBoard.apply(List.of(
+                MatchCommand.startMatch("Spain", "Brazil"),
+                MatchCommand.finishMatch("Spain", "Brazil"),
+                MatchCommand.updateScore("Spain", 1, "Brazil", 0))));
+
+            assertEquals(List.of(), scoreBoard.getSummary());
+        }
+    }
+
+    @Nested
+    public class Versions {
+
+        private final ScoreBoard scoreBoard = new ScoreBoard(() -> Instant.parse("2024-12-12T20:00:00.00Z"));
+
+        @Test
+        void versionIncreasedOnChanges() {
+            long initialVersion = scoreBoard.getVersion();
+
+            scoreBoard.startNewMatch("Spain", "Brazil");
+            scoreBoard.updateMatchScore("Spain", 1, "Brazil", 0);
+
+            assertEquals(initialVersion + 2, scoreBoard.getVersion());
+        }
+
+        @Test
+        void versionNotChangedOnRejectedChanges() {
+            scoreBoard.startNewMatch("Spain", "Brazil");
+            long version = scoreBoard.getVersion();
+
+            assertThrows(SportRadarException.class, () -> scoreBoard.startNewMatch("Spain", "Brazil"));
+
+            assertEquals(version, scoreBoard.getVersion());
+        }
+
+        @Test
+        void noChangesSinceCurrentVersion() {
+            scoreBoard.startNewMatch("Spain", "Brazil");
+            long version = scoreBoard.getVersion();
+
+            SummaryChanges changes = scoreBoard.getChangesSince(version);
+
+            assertTrue(changes.isEmpty());
+            assertEquals(version, changes.version());
+            // nothing is allocated per read when nothing has been changed
+            assertSame(changes, scoreBoard.getChangesSince(version));
+        }
+
+        @Test
+        void changesSinceKnownVersion() {
+            // Given
+            scoreBoard.startNewMatch("Spain", "Brazil");
+            scoreBoard.startNewMatch("Mexico", "Canada");
+            scoreBoard.startNewMatch("Germany", "France");
+            long knownVersion = scoreBoard.getVersion();
+
+            // When
+            scoreBoard.updateMatchScore("Spain", 1, "Brazil", 0);
+            scoreBoard.finishMatch("Mexico", "Canada");
+            scoreBoard.startNewMatch("Uruguay", "Italy");
+            SummaryChanges changes = scoreBoard.getChangesSince(knownVersion);
+
+            // Then
+            assertEquals(new SummaryChanges(scoreBoard.getVersion(), false,
+                List.of(createMatch("Uruguay", 0, "Italy", 0, "2024-12-12T20:00:00.00Z")),
+                List.of(createMatch("Spain", 1, "Brazil", 0, "2024-12-12T20:00:00.00Z")),
+                List.of(createMatch("Mexico", 0, "Canada", 0, "2024-12-12T20:00:00.00Z"))), changes);
+        }
+
+        @Test
+        void resetOnUnknownVersion() {
+            scoreBoard.startNewMatch("Spain", "Brazil");
+            for (int goal = 1; goal <= 100; goal++) {
+                scoreBoard.updateMatchScore("Spain", goal, "Brazil", 0);
+            }
+
+            // the version is too old to keep the history or has never been published
+            for (long version : new long[]{0, scoreBoard.getVersion() + 1, -1}) {
+                SummaryChanges changes = scoreBoard.getChangesSince(version);
+
+                assertEquals(new SummaryChanges(scoreBoard.getVersion(), true, scoreBoard.getSummary(), List.of(), List.of()),
+                    changes);
+            }
+        }
+    }
+
+    @Nested
+    public class Payload {
+
+        @Test
+        void jsonPayload() {
+            // Given
+            ScoreBoard scoreBoard = ScoreBoard.builder()
+                .instantSource(() -> Instant.parse("2024-12-12T20:00:00.00Z"))
+                .summaryEncoder(SummaryEncoder.json())
+                .build();
+
+            // When
+            scoreBoard.startNewMatch("Spain", "Brazil \"B\"");
+            scoreBoard.updateMatchScore("Spain", 1, "Brazil \"B\"", 0);
+
+            // Then
+            assertEquals("{\"version\":2,\"matches\":[{\"homeTeam\":\"Spain\",\"homeTeamScore\":1," +
+                    "\"awayTeam\":\"Brazil \\\"B\\\"\",\"awayTeamScore\":0,\"startedAt\":\"2024-12-12T20:00:00Z\"}]}",
+                StandardCharsets.UTF_8.decode(scoreBoard.getSummaryPayload()).toString());
+        }
+
+        @Test
+        void binaryPayload() {
+            // Given
+            ScoreBoard scoreBoard = ScoreBoard.builder()
+                .instantSource(() -> Instant.parse("2024-12-12T20:00:00.00Z"))
+                .summaryEncoder(SummaryEncoder.binary())
+                .build();
+
+            // When
+            scoreBoard.startNewMatch("Spain", "Brazil");
+            scoreBoard.updateMatchScore("Spain", 1, "Brazil", 0);
+            ByteBuffer payload = scoreBoard.getSummaryPayload();
+
+            // Then
+            assertTrue(payload.isReadOnly());
+            assertEquals(1, payload.get());
+            assertEquals(scoreBoard.getVersion(), payload.getLong());
+            assertEquals(1, payload.getInt());
+            assertEquals("Spain", readString(payload));
+            assertEquals("Brazil", readString(payload));
+            assertEquals(1, payload.getInt());
+            assertEquals(0, payload.getInt());
+            assertEquals(Instant.parse("2024-12-12T20:00:00.00Z"), Instant.ofEpochSecond(payload.getLong(), payload.getInt()));
+            assertFalse(payload.hasRemaining());
+        }
+
+        @Test
+        void payloadViewsAreIndependent() {
+            ScoreBoard scoreBoard = ScoreBoard.builder().summaryEncoder(SummaryEncoder.json()).build();
+
+            ByteBuffer consumed = scoreBoard.getSummaryPayload();
+            consumed.position(consumed.limit());
+
+            assertEquals("{\"version\":0,\"matches\":[]}",
+                StandardCharsets.UTF_8.decode(scoreBoard.getSummaryPayload()).toString());
+        }
+
+        @Test
+        void payloadWithoutEncoder() {
+            ScoreBoard scoreBoard = new ScoreBoard();
+
+            assertThrows(IllegalStateException.class, scoreBoard::getSummaryPayload);
+        }
+
+        private static String readString(ByteBuffer buffer) {
+            byte[] bytes = new byte[Short.toUnsignedInt(buffer.getShort())];
+            buffer.get(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+
+    @Nested
+    public class Events {
+
+        private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+        @Test
+        void publishMatchChanges() throws Exception {
+            // Given
+            ScoreBoard scoreBoard = new ScoreBoard(() -> Instant.parse("2024-12-12T20:00:00.00Z"));
+            CollectingSubscriber subscriber = new CollectingSubscriber(Long.MAX_VALUE);
+            scoreBoard.subscribe(subscriber);
+
+            // When
+            scoreBoard.startNewMatch("Spain", "Brazil");
+            scoreBoard.updateMatchScore("Spain", 1, "Brazil", 0);
+            scoreBoard.finishMatch("Spain", "Brazil");
+
+            // Then
+            assertEquals(List.of(
+                new MatchEvent.MatchStarted(createMatch("Spain", 0, "Brazil", 0, "2024-12-12T20:00:00.00Z")),
+                new MatchEvent.ScoreUpdated(
+                    createMatch("Spain", 0, "Brazil", 0, "2024-12-12T20:00:00.00Z"),
+                    createMatch("Spain", 1, "Brazil", 0, "2024-12-12T20:00:00.00Z")),
+                new MatchEvent.MatchFinished(
+                    new Match("Spain", 1, "Brazil", 0, false, Instant.parse("2024-12-12T20:00:00.00Z")))
+            ), subscriber.take(3));
+        }
+
+        @Test
+        void rejectedChangesAreNotPublished() throws Exception {
+            // Given
+            ScoreBoard scoreBoard = new ScoreBoard();
+            CollectingSubscriber subscriber = new CollectingSubscriber(Long.MAX_VALUE);
+            scoreBoard.subscribe(subscriber);
+            scoreBoard.startNewMatch("Spain", "Brazil");
+
+            // When
+            assertThrows(SportRadarException.class, () -> scoreBoard.startNewMatch("Spain", "Brazil"));
+            scoreBoard.finishMatch("Spain", "Brazil");
+
+            // Then
+            List<MatchEvent> events = subscriber.take(2);
+            assertTrue(events.get(0) instanceof MatchEvent.MatchStarted);
+            assertTrue(events.get(1) instanceof MatchEvent.MatchFinished);
+        }
+
+        @Test
+        void slowSubscriberDoesNotBlockWriter() {
+            // Given: the subscriber which never requests events
+            ScoreBoard scoreBoard = new ScoreBoard();
+            scoreBoard.subscribe(new CollectingSubscriber(0));
+            scoreBoard.startNewMatch("Spain", "Brazil");
+
+            // When
+            assertTimeoutPreemptively(TIMEOUT, () -> {
+                for (int goal = 1; goal <= 10 * Flow.defaultBufferSize(); goal++) {
+                    scoreBoard.updateMatchScore("Spain", goal, "Brazil", 0);
+                }
+            });
+
+            // Then: the events which don't fit into the buffer of the subscriber are dropped
+            assertTrue(scoreBoard.getDroppedEvents() > 0);
+        }
+
+        private static class CollectingSubscriber implements Flow.Subscriber<MatchEvent> {
+
+            private final long demand;
+            private final BlockingQueue<MatchEvent> received = new LinkedBlockingQueue<>();
+
+            CollectingSubscriber(long demand) {
+                this.demand = demand;
+            }
+
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                if (demand > 0) subscription.request(demand);
+            }
+
+            @Override
+            public void onNext(MatchEvent item) {
+                received.add(item);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+            }
+
+            @Override
+            public void onComplete() {
+            }
+
+            List<MatchEvent> take(int count) throws InterruptedException {
+                List<MatchEvent> events = new ArrayList<>();
+                for (int i = 0; i < count; i++) {
+                    MatchEvent event = received.poll(TIMEOUT.toSeconds(), TimeUnit.SECONDS);
+                    assertNotNull(event, "Expected " + count + " events but received " + events);
+                    events.add(event);
+                }
+                return events;
+            }
+        }
+    }
+
+    @Nested
+    public class Concurrency {
+
+        private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+        @Test
+        void readersDoNotWaitForWriter() throws Exception {
+            // Given: the writer is parked inside the critical section (InstantSource is called under the write lock)
+            CountDownLatch writerInside = new CountDownLatch(1);
+            CountDownLatch releaseWriter = new CountDownLatch(1);
+            ScoreBoard scoreBoard = new ScoreBoard(() -> {
+                writerInside.countDown();
+                await(releaseWriter);
+                return Instant.parse("2024-12-12T20:00:00.00Z");
+            });
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+            try {
+                Future<Match> writer = executor.submit(() -> scoreBoard.startNewMatch("homeTeam", "awayTeam"));
+                assertTrue(writerInside.await(TIMEOUT.toSeconds(), TimeUnit.SECONDS));
+
+                // When-Then: readers get the last published summary without waiting for the writer
+                List<Future<List<Match>>> readers = new ArrayList<>();
+                for (int i = 0; i < 4; i++) {
+                    readers.add(executor.submit(scoreBoard::getSummary));
+                }
+                for (Future<List<Match>> reader : readers) {
+                    assertEquals(List.of(), reader.get(TIMEOUT.toSeconds(), TimeUnit.SECONDS));
+                }
+
+                releaseWriter.countDown();
+                writer.get(TIMEOUT.toSeconds(), TimeUnit.SECONDS);
+                assertEquals(List.of(createMatch("homeTeam", 0, "awayTeam", 0, "2024-12-12T20:00:00.00Z")),
+                    scoreBoard.getSummary());
+            } finally {
+                releaseWriter.countDown();
+                executor.shutdownNow();
+            }
+        }
+
+        @Test
+        void writersAreNotBlockedByReaders() throws Exception {
+            // Given
+            ScoreBoard scoreBoard = new ScoreBoard();
+            scoreBoard.startNewMatch("Spain", "Brazil");
+            scoreBoard.startNewMatch("Mexico", "Canada");
+
+            int readersCount = 8;
+            int goals = 2_000;
+            AtomicBoolean stop = new AtomicBoolean();
+            AtomicReference<String> violation = new AtomicReference<>();
+            ExecutorService readers = Executors.newFixedThreadPool(readersCount);
+            try {
+                // readers spin on getSummary() and verify every observed snapshot is consistent
+                for (int i = 0; i < readersCount; i++) {
+                    readers.submit(() -> {
+                        int lastSpainGoals = 0;
+                        while (!stop.get()) {
+                            List<Match> summary = scoreBoard.getSummary();
+                            for (Match match : summary) {
+                                if (match.homeTeam().equals("Spain")) {
+                                    if (match.homeTeamScore() < lastSpainGoals)
+                                        violation.set("Score went backwards: " + match);
+                                    lastSpainGoals = match.homeTeamScore();
+                                }
+                            }
+                            if (summary.size() != 2)
+                                violation.set("Unexpected summary: " + summary);
+                        }
+                    });
+                }
+
+                // When: a writer scores constantly while readers hammer the summary
+                assertTimeoutPreemptively(TIMEOUT, () -> {
+                    for (int goal = 1; goal <= goals; goal++) {
+                        scoreBoard.updateMatchScore("Spain", goal, "Brazil", 0);
+                    }
+                });
+
+                // Then
+                stop.set(true);
+                readers.shutdown();
+                assertTrue(readers.awaitTermination(TIMEOUT.toSeconds(), TimeUnit.SECONDS));
+                assertNull(violation.get(), violation.get());
+                assertEquals(goals, scoreBoard.getSummary().get(0).homeTeamScore());
+            } finally {
+                stop.set(true);
+                readers.shutdownNow();
+            }
+        }
+
+        @Test
+        void readsDoNotPreventFurtherWrites() {
+            // regression: reads used to leak read lock holds, what blocked the next writer forever
+            ScoreBoard scoreBoard = new ScoreBoard();
+            scoreBoard.startNewMatch("Spain", "Brazil");
+            scoreBoard.getSummary();
+
+            assertTimeoutPreemptively(TIMEOUT, () -> scoreBoard.startNewMatch("Mexico", "Canada"));
+        }
+
+        @Test
+        void firstReadOfTeamDoesNotWaitForWriter() throws Exception {
+            // Given: the writer holds the write lock (the listener is called under the write lock)
+            Instant kickOff = Instant.parse("2024-12-12T20:00:00.00Z");
+            CountDownLatch stalled = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            AtomicBoolean stalling = new AtomicBoolean();
+            ScoreBoard stallingBoard = ScoreBoard.builder()
+                .instantSource(() -> kickOff)
+                .changeListener(changes -> {
+                    if (stalling.get()) {
+                        stalled.countDown();
+                        await(release);
+                    }
+                })
+                .build();
+            stallingBoard.startNewMatch("Spain", "Brazil");
+            stalling.set(true);
+            ExecutorService writer = Executors.newSingleThreadExecutor();
+            Future<?> update = writer.submit(() -> stallingBoard.updateMatchScore("Spain", 1, "Brazil", 0));
+            assertTrue(stalled.await(TIMEOUT.toSeconds(), TimeUnit.SECONDS));
+
+            // When-Then: the first reads of the teams are answered from the published Summary
+            assertTimeoutPreemptively(TIMEOUT, () -> {
+                assertEquals(List.of(new Match("Spain", 1, "Brazil", 0, true, kickOff)),
+                    stallingBoard.getMatchesForTeam("Spain"));
+                assertEquals(List.of(), stallingBoard.getMatchesForTeam("Italy"));
+            });
+
+            // and the view is built by the next change
+            stalling.set(false);
+            release.countDown();
+            update.get(TIMEOUT.toSeconds(), TimeUnit.SECONDS);
+            writer.shutdown();
+            stallingBoard.startNewMatch("Mexico", "Spain");
+            assertEquals(List.of(
+                new Match("Spain", 1, "Brazil", 0, true, kickOff),
+                new Match("Mexico", 0, "Spain", 0, true, kickOff)
+            ), stallingBoard.getMatchesForTeam("Spain"));
+            stallingBoard.finishMatch("Spain", "Brazil");
+            assertEquals(List.of(new Match("Mexico", 0, "Spain", 0, true, kickOff)),
+                stallingBoard.getMatchesForTeam("Spain"));
+        }
+
+        private static void await(CountDownLatch latch) {
+            try {
+                latch.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
     private static Match createMatch(String homeTeam, int homeTeamScore, String awayTeam, int awayTeamScore, String startedAt) {
         return new Match(homeTeam, homeTeamScore, awayTeam, awayTeamScore, true, Instant.parse(startedAt));
     }
@@ -0,0 +1,208 @@
+package org.sportradar;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.sportradar.ScoreBoard.Match;
+import org.sportradar.ScoreBoard.SportRadarException;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ScoreBoardWriterTest {
+
+    private static final Instant KICK_OFF = Instant.parse("2024-12-12T20:00:00.00Z");
+
+    private final ScoreBoard scoreBoard = new ScoreBoard(() -> KICK_OFF);
+    private final ScoreBoardWriter writer = new ScoreBoardWriter(scoreBoard);
+
+    @AfterEach
+    void tearDown() {
+        writer.close();
+    }
+
+    @Test
+    void applyCommandsInOrderOfSubmission() throws Exception {
+        // When
+        writer.startNewMatch("Spain", "Brazil");
+        writer.updateMatchScore("Spain", 1, "Brazil", 0);
+        CompletableFuture<Match> updated = writer.updateMatchScore("Spain", 2, "Brazil", 0);
+
+        // Then
+        assertEquals(new Match("Spain", 2, "Brazil", 0, true, KICK_OFF), updated.get(5, TimeUnit.SECONDS));
+        assertEquals(List.of(new Match("Spain", 2, "Brazil", 0, true, KICK_OFF)), scoreBoard.getSummary());
+    }
+
+    @Test
+    void failedCommandDoesNotAffectOthers() throws Exception {
+        // Given
+        writer.startNewMatch("Spain", "Brazil");
+
+        // When
+        CompletableFuture<Match> notFound = writer.updateMatchScore("Mexico", 1, "Canada", 0);
+        CompletableFuture<Match> negativeScore = writer.updateMatchScore("Spain", -1, "Brazil", 0);
+        CompletableFuture<Match> sameTeams = writer.startNewMatch("Spain", "Spain");
+        CompletableFuture<Match> updated = writer.updateMatchScore("Spain", 1, "Brazil", 0);
+
+        // Then
+        assertInstanceOf(SportRadarException.class, failure(notFound));
+        assertInstanceOf(SportRadarException.class, failure(negativeScore));
+        assertInstanceOf(IllegalArgumentException.class, failure(sameTeams));
+        assertEquals(new Match("Spain", 1, "Brazil", 0, true, KICK_OFF), updated.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void failedListenerDoesNotFailPublishedCommands() throws Exception {
+        // Given
+        ScoreBoard failingBoard = ScoreBoard.builder()
+            .instantSource(() -> KICK_OFF)
+            .changeListener(changes -> {
+                throw new IllegalStateException("listener failed");
+            })
+            .build();
+
+        try (ScoreBoardWriter failingWriter = new ScoreBoardWriter(failingBoard)) {
+            // When
+            CompletableFuture<Match> started = failingWriter.startNewMatch("Spain", "Brazil");
+
+            // Then: the change is published, so the command succeeded
+            assertEquals(new Match("Spain", 0, "Brazil", 0, true, KICK_OFF), started.get(5, TimeUnit.SECONDS));
+            assertEquals(List.of(new Match("Spain", 0, "Brazil", 0, true, KICK_OFF)), failingBoard.getSummary());
+        }
+    }
+
+    @Test
+    void applyConcurrentSubmissions() throws Exception {
+        // Given
+        int feeds = 4;
+        int updates = 1_000;
+        for (int feed = 0; feed < feeds; feed++) {
+            scoreBoard.startNewMatch("Home " + feed, "Away " + feed);
+        }
+
+        // When: every feed updates its own match concurrently
+        ExecutorService executor = Executors.newFixedThreadPool(feeds);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<CompletableFuture<Match>>> lastUpdates = new ArrayList<>();
+        for (int feed = 0; feed < feeds; feed++) {
+            String homeTeam = "Home " + feed;
+            String awayTeam = "Away " + feed;
+            lastUpdates.add(executor.submit(() -> {
+                start.await();
+                CompletableFuture<Match> last = null;
+                for (int score = 1; score <= updates; score++) {
+                    last = writer.updateMatchScore(homeTeam, score, awayTeam, 0);
+                }
+                return last;
+            }));
+        }
+        start.countDown();
+
+        // Then
+        for (Future<CompletableFuture<Match>> lastUpdate : lastUpdates) {
+            assertEquals(updates, lastUpdate.get(5, TimeUnit.SECONDS).get(5, TimeUnit.SECONDS).homeTeamScore());
+        }
+        executor.shutdown();
+        assertTrue(scoreBoard.getSummary().stream().allMatch(match -> match.homeTeamScore() == updates));
+    }
+
+    @Test
+    void coalesceBurstIntoSingleSummary() throws Exception {
+        // Given: the writer is stalled on the first change
+        CountDownLatch stalled = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ScoreBoard stallingBoard = ScoreBoard.builder()
+            .instantSource(() -> KICK_OFF)
+            .changeListener(changes -> {
+                stalled.countDown();
+                awaitUninterruptibly(release);
+            })
+            .build();
+        try (ScoreBoardWriter stallingWriter = new ScoreBoardWriter(stallingBoard)) {
+            stallingWriter.startNewMatch("Spain", "Brazil");
+            assertTrue(stalled.await(5, TimeUnit.SECONDS));
+
+            // When: the burst is queued meanwhile
+            stallingWriter.updateMatchScore("Spain", 1, "Brazil", 0);
+            stallingWriter.updateMatchScore("Spain", 2, "Brazil", 0);
+            CompletableFuture<Match> last = stallingWriter.updateMatchScore("Spain", 3, "Brazil", 0);
+            release.countDown();
+
+            // Then: the burst is published as a single Summary
+            assertEquals(3, last.get(5, TimeUnit.SECONDS).homeTeamScore());
+            assertEquals(2, stallingBoard.getVersion());
+        }
+    }
+
+    @Test
+    void rejectSubmissionsToFullQueue() throws Exception {
+        // Given: the writer is stalled on the first change, the queue holds 2 commands
+        CountDownLatch stalled = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ScoreBoard stallingBoard = ScoreBoard.builder()
+            .instantSource(() -> KICK_OFF)
+            .changeListener(changes -> {
+                stalled.countDown();
+                awaitUninterruptibly(release);
+            })
+            .build();
+        try (ScoreBoardWriter boundedWriter = new ScoreBoardWriter(stallingBoard, 2)) {
+            boundedWriter.startNewMatch("Spain", "Brazil");
+            assertTrue(stalled.await(5, TimeUnit.SECONDS));
+            CompletableFuture<Match> first = boundedWriter.updateMatchScore("Spain", 1, "Brazil", 0);
+            CompletableFuture<Match> second = boundedWriter.updateMatchScore("Spain", 2, "Brazil", 0);
+
+            // When
+            CompletableFuture<Match> rejected = boundedWriter.updateMatchScore("Spain", 3, "Brazil", 0);
+
+            // Then: the submission fails at once, the queued ones are applied
+            assertTrue(rejected.isCompletedExceptionally());
+            assertInstanceOf(RejectedExecutionException.class, failure(rejected));
+            release.countDown();
+            assertEquals(1, first.get(5, TimeUnit.SECONDS).homeTeamScore());
+            assertEquals(2, second.get(5, TimeUnit.SECONDS).homeTeamScore());
+
+            // and the drained queue accepts again
+            assertEquals(4, boundedWriter.updateMatchScore("Spain", 4, "Brazil", 0).get(5, TimeUnit.SECONDS).homeTeamScore());
+        }
+    }
+
+    @Test
+    void closeAppliesSubmittedAndRejectsNew() throws Exception {
+        // Given
+        CompletableFuture<Match> started = writer.startNewMatch("Spain", "Brazil");
+
+        // When
+        writer.close();
+
+        // Then
+        assertEquals(new Match("Spain", 0, "Brazil", 0, true, KICK_OFF), started.getNow(null));
+        assertInstanceOf(RejectedExecutionException.class, failure(writer.finishMatch("Spain", "Brazil")));
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Throwable failure(CompletableFuture<Match> future) {
+        ExecutionException e = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+        return e.getCause();
+    }
+}
@@ -0,0 +1,31 @@
+package org.sportradar;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.InstantSource;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Thread-safe controllable time of a load test: every read moves the time forward by the tick,
+ * so the time of the matches doesn't depend on the speed of the machine.
+ */
+final class SimulatedClock implements InstantSource {
+
+    private final AtomicLong nanos;
+    private final long tickNanos;
+
+    SimulatedClock(Instant start, Duration tick) {
+        this.nanos = new AtomicLong(start.getEpochSecond() * 1_000_000_000L + start.getNano());
+        this.tickNanos = tick.toNanos();
+    }
+
+    @Override
+    public Instant instant() {
+        long now = nanos.getAndAdd(tickNanos);
+        return Instant.ofEpochSecond(0, now);
+    }
+
+    void advance(Duration duration) {
+        nanos.addAndGet(duration.toNanos());
+    }
+}
@@ -0,0 +1,80 @@
+package org.sportradar;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Seeded synthetic feed of a tournament: the same seed gives the same commands.
+ * <p>
+ * A round kicks off all the matches of the feed, then scores the goals of all the matches in a random order
+ * and finishes the matches. The teams of every round are new ("r{round}h{slot}" plays "r{round}a{slot}"),
+ * so the rounds may follow each other on a board which keeps the finished matches.
+ */
+final class TournamentFeed {
+
+    private final long seed;
+    private final int[] slots;
+    private final double goalsPerMatch;
+
+    /**
+     * @param seed          the seed of the feed
+     * @param slots         the slots of the matches of the feed, e.g. the slots served by one feed adapter
+     * @param goalsPerMatch the average number of goals of a Match
+     */
+    TournamentFeed(long seed, int[] slots, double goalsPerMatch) {
+        this.seed = seed;
+        this.slots = slots.clone();
+        this.goalsPerMatch = goalsPerMatch;
+    }
+
+    static String homeTeam(int round, int slot) {
+        return "r" + round + "h" + slot;
+    }
+
+    static String awayTeam(int round, int slot) {
+        return "r" + round + "a" + slot;
+    }
+
+    /**
+     * @return the commands of the round in the order they have to be applied
+     */
+    List<MatchCommand> round(int round) {
+        Random random = new Random(seed * 1_000_003 + round);
+        List<MatchCommand> commands = new ArrayList<>();
+        for (int slot : slots) {
+            commands.add(MatchCommand.startMatch(homeTeam(round, slot), awayTeam(round, slot)));
+        }
+
+        // the goals of all the matches: the slot of the scoring Match and the scoring side
+        List<int[]> goals = new ArrayList<>();
+        for (int slot : slots) {
+            int matchGoals = (int) Math.round(random.nextDouble() * 2 * goalsPerMatch);
+            for (int goal = 0; goal < matchGoals; goal++) {
+                goals.add(new int[]{slot, random.nextInt(2)});
+            }
+        }
+        Collections.shuffle(goals, random);
+
+        int[] homeScores = new int[slots.length == 0 ? 0 : max(slots) + 1];
+        int[] awayScores = new int[homeScores.length];
+        for (int[] goal : goals) {
+            int slot = goal[0];
+            if (goal[1] == 0) homeScores[slot]++;
+            else awayScores[slot]++;
+            commands.add(MatchCommand.updateScore(homeTeam(round, slot), homeScores[slot], awayTeam(round, slot), awayScores[slot]));
+        }
+
+        for (int slot : slots) {
+            commands.add(MatchCommand.finishMatch(homeTeam(round, slot), awayTeam(round, slot)));
+        }
+        return commands;
+    }
+
+    private static int max(int[] values) {
+        int max = values[0];
+        for (int value : values) max = Math.max(max, value);
+        return max;
+    }
+}